@@ -0,0 +1,517 @@
+// Copyright 2026 Google Inc. All Rights Reserved.
+
+package com.google.re2j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An Aho-Corasick automaton over a set of keywords, each a sequence of
+ * runes, which finds the leftmost match of any of them in one pass over
+ * the input.
+ *
+ * <p>The trie is held in primitive arrays, with node ids assigned in
+ * breadth-first order so that the children of a node are consecutive and
+ * sorted by rune.  The search follows the failure links, noting the start
+ * of the earliest keyword seen to end so far, and stops once no partial
+ * match in progress started before it.  Which keyword matches at that
+ * start is then decided by walking the trie from it: the one with the
+ * lowest index (leftmost-first) or the longest (leftmost-longest).
+ */
+final class AhoCorasick {
+
+  // Limits on the keywords extracted from a regexp by forRegexp().
+  static final int MAX_KEYWORDS = 1 << 14;
+  private static final int MAX_CLASS = 64;
+
+  // How runes are folded before they are compared.
+  static final int FOLD_NONE = 0;
+  static final int FOLD_ASCII = 1;  // 'a'-'z' as 'A'-'Z'
+  static final int FOLD_SIMPLE = 2;  // Unicode simple folding
+
+  private final int fold;  // one of FOLD_*
+
+  // Per node: the rune on the edge from its parent; the first of its
+  // children (those of node n are firstChild[n] to firstChild[n + 1] - 1);
+  // its failure link; its depth in runes; the length of the longest
+  // keyword ending at it; and the index of the keyword it spells, or -1.
+  private final int[] label;
+  private final int[] firstChild;
+  private final int[] fail;
+  private final int[] depth;
+  private final int[] outLen;
+  private final int[] keyword;
+
+  // The greatest depth, rounded up to a power of two, less one.
+  private final int historyMask;
+
+  // build() returns the automaton for |keywords|, which must be non-empty
+  // rune sequences, with runes folded as |fold| says.  A keyword's
+  // priority is its index; where two are equal after folding, the first
+  // counts.
+  static AhoCorasick build(int[][] keywords, int fold) {
+    int n = keywords.length;
+    int[][] keys = new int[n][];
+    for (int k = 0; k < n; k++) {
+      int[] runes = keywords[k];
+      if (runes.length == 0) {
+        throw new IllegalArgumentException("empty keyword");
+      }
+      if (fold != FOLD_NONE) {
+        runes = runes.clone();
+        for (int j = 0; j < runes.length; j++) {
+          runes[j] = canonical(runes[j], fold);
+        }
+      }
+      keys[k] = runes;
+    }
+    return new AhoCorasick(keys, fold);
+  }
+
+  private AhoCorasick(int[][] keys, int fold) {
+    this.fold = fold;
+    // Each node covers the range of |order| holding the keywords that
+    // start with the runes it spells.  Visiting nodes in breadth-first
+    // order, sort each range by the next rune (keywords that end here
+    // first, and then by index) and give the node the next ids for its
+    // children, one per distinct next rune.
+    int[] order = new int[keys.length];
+    for (int k = 0; k < order.length; k++) {
+      order[k] = k;
+    }
+    long[] sortKeys = new long[keys.length];
+    int cap = 16;
+    int[] label = new int[cap];
+    int[] firstChild = new int[cap + 1];
+    int[] depth = new int[cap];
+    int[] keyword = new int[cap];
+    int[] lo = new int[cap];
+    int[] hi = new int[cap];
+    int nodes = 1;
+    label[0] = -1;
+    keyword[0] = -1;
+    lo[0] = 0;
+    hi[0] = order.length;
+    int maxDepth = 0;
+    for (int node = 0; node < nodes; node++) {
+      firstChild[node] = nodes;
+      int d = depth[node];
+      int i = lo[node];
+      int end = hi[node];
+      for (int j = i; j < end; j++) {
+        int[] key = keys[order[j]];
+        long r = key.length == d ? 0 : key[d] + 1L;
+        sortKeys[j] = r << 32 | order[j];
+      }
+      Arrays.sort(sortKeys, i, end);
+      for (int j = i; j < end; j++) {
+        order[j] = (int) sortKeys[j];
+      }
+      if (i < end && sortKeys[i] >>> 32 == 0) {
+        keyword[node] = order[i];
+      }
+      while (i < end && sortKeys[i] >>> 32 == 0) {
+        i++;
+      }
+      while (i < end) {
+        long r1 = sortKeys[i] >>> 32;
+        int r = (int) r1 - 1;
+        int j = i + 1;
+        while (j < end && sortKeys[j] >>> 32 == r1) {
+          j++;
+        }
+        if (nodes == cap) {
+          cap *= 2;
+          label = Arrays.copyOf(label, cap);
+          firstChild = Arrays.copyOf(firstChild, cap + 1);
+          depth = Arrays.copyOf(depth, cap);
+          keyword = Arrays.copyOf(keyword, cap);
+          lo = Arrays.copyOf(lo, cap);
+          hi = Arrays.copyOf(hi, cap);
+        }
+        label[nodes] = r;
+        depth[nodes] = d + 1;
+        keyword[nodes] = -1;
+        lo[nodes] = i;
+        hi[nodes] = j;
+        nodes++;
+        maxDepth = Math.max(maxDepth, d + 1);
+        i = j;
+      }
+    }
+    firstChild[nodes] = nodes;
+    this.label = Arrays.copyOf(label, nodes);
+    this.firstChild = Arrays.copyOf(firstChild, nodes + 1);
+    this.depth = Arrays.copyOf(depth, nodes);
+    this.keyword = Arrays.copyOf(keyword, nodes);
+
+    // Failure links and output lengths, in breadth-first order so that a
+    // node's failure link (which is shallower) is done before the node.
+    int[] fail = new int[nodes];
+    int[] outLen = new int[nodes];
+    for (int node = 0; node < nodes; node++) {
+      for (int c = firstChild[node]; c < firstChild[node + 1]; c++) {
+        int f = 0;
+        if (node != 0) {
+          f = fail[node];
+          int next;
+          while ((next = child(f, label[c])) < 0 && f != 0) {
+            f = fail[f];
+          }
+          f = next < 0 ? 0 : next;
+        }
+        fail[c] = f;
+        outLen[c] = keyword[c] >= 0 ? depth[c] : outLen[f];
+      }
+    }
+    this.fail = fail;
+    this.outLen = outLen;
+    int h = 1;
+    while (h <= maxDepth) {
+      h <<= 1;
+    }
+    this.historyMask = h - 1;
+  }
+
+  // child() returns the child of |node| along |r|, or -1.
+  private int child(int node, int r) {
+    int lo = firstChild[node];
+    int hi = firstChild[node + 1];
+    if (hi - lo <= 8) {
+      for (int c = lo; c < hi; c++) {
+        if (label[c] == r) {
+          return c;
+        }
+        if (label[c] > r) {
+          break;
+        }
+      }
+      return -1;
+    }
+    while (lo < hi) {
+      int m = (lo + hi) >>> 1;
+      if (label[m] < r) {
+        lo = m + 1;
+      } else {
+        hi = m;
+      }
+    }
+    return lo < firstChild[node + 1] && label[lo] == r ? lo : -1;
+  }
+
+  // numNodes() returns the number of nodes in the trie.
+  int numNodes() {
+    return label.length;
+  }
+
+  // fold() returns how the automaton folds runes, one of FOLD_*.
+  int fold() {
+    return fold;
+  }
+
+  // keywords() returns the keywords the automaton finds, folded, in
+  // priority order and less any equal to an earlier one, so that
+  // build(keywords(), fold()) finds the same matches.  Used by
+  // CompiledForm, which stores them in place of the regexp.
+  int[][] keywords() {
+    int nodes = label.length;
+    int[] parent = new int[nodes];
+    int count = 0;
+    for (int node = 0; node < nodes; node++) {
+      for (int c = firstChild[node]; c < firstChild[node + 1]; c++) {
+        parent[c] = node;
+      }
+      if (keyword[node] >= 0) {
+        count++;
+      }
+    }
+    long[] byIndex = new long[count];
+    count = 0;
+    for (int node = 0; node < nodes; node++) {
+      if (keyword[node] >= 0) {
+        byIndex[count++] = (long) keyword[node] << 32 | node;
+      }
+    }
+    Arrays.sort(byIndex);
+    int[][] keywords = new int[count][];
+    for (int k = 0; k < count; k++) {
+      int node = (int) byIndex[k];
+      int[] runes = new int[depth[node]];
+      for (int j = runes.length - 1; j >= 0; j--) {
+        runes[j] = label[node];
+        node = parent[node];
+      }
+      keywords[k] = runes;
+    }
+    return keywords;
+  }
+
+  // match() finds the leftmost match of a keyword in |in| at or after
+  // |pos| with the RE2 anchor |anchor|, and stores its bounds in
+  // |bounds[0]| and |bounds[1]|.  Among the keywords matching at that
+  // start it picks the longest if |longest|, else the first, and stores
+  // its index in |bounds[2]| if there is room.  If |any|, it returns as
+  // soon as it knows there is a match, without bounds.
+  boolean match(MachineInput in, int pos, int anchor, boolean longest,
+                boolean any, int[] bounds) {
+    return match(in, pos, anchor, longest, any, bounds, Integer.MAX_VALUE);
+  }
+
+  // match() is like the above, but finds only a match that starts before
+  // |limit|, and stops reading once no match in progress started before it.
+  boolean match(MachineInput in, int pos, int anchor, boolean longest,
+                boolean any, int[] bounds, int limit) {
+    if (anchor != RE2.UNANCHORED) {
+      return pos == 0 && limit > 0 &&
+          matchAt(in, pos, anchor == RE2.ANCHOR_BOTH, longest, bounds);
+    }
+    int[] history = new int[historyMask + 1];  // start of each recent rune
+    int state = 0;
+    int best = -1;
+    int k = 0;  // runes read
+    int i = pos;
+    for (;;) {
+      if (best >= 0 || i >= limit) {
+        // Stop once every partial match in progress started at or after
+        // |best|, or the limit if there is none.
+        int d = depth[state];
+        if ((d == 0 ? i : history[(k - d) & historyMask]) >=
+            (best >= 0 ? best : limit)) {
+          break;
+        }
+      }
+      int x = in.step(i);
+      if (x == MachineInput.EOF) {
+        break;
+      }
+      history[k++ & historyMask] = i;
+      i += x & 7;
+      int r = fold == FOLD_NONE ? x >> 3 : canonical(x >> 3, fold);
+      int next;
+      while ((next = child(state, r)) < 0 && state != 0) {
+        state = fail[state];
+      }
+      state = next < 0 ? 0 : next;
+      int len = outLen[state];
+      if (len > 0) {
+        int start = history[(k - len) & historyMask];
+        if (best < 0 ? start < limit : start < best) {
+          best = start;
+          if (any) {
+            return true;
+          }
+        }
+      }
+    }
+    return best >= 0 && matchAt(in, best, false, longest, bounds);
+  }
+
+  // matchAt() reports whether a keyword matches at |pos|, ending at the
+  // end of the input if |toEnd|, and stores the bounds of the match chosen
+  // as by match() in |bounds|.
+  private boolean matchAt(MachineInput in, int pos, boolean toEnd,
+                          boolean longest, int[] bounds) {
+    int node = 0;
+    int end = -1;
+    int chosen = Integer.MAX_VALUE;
+    int i = pos;
+    for (;;) {
+      int x = in.step(i);
+      if (x == MachineInput.EOF) {
+        break;
+      }
+      int r = fold == FOLD_NONE ? x >> 3 : canonical(x >> 3, fold);
+      node = child(node, r);
+      if (node < 0) {
+        break;
+      }
+      i += x & 7;
+      int kw = keyword[node];
+      if (kw >= 0 && (longest || kw < chosen) &&
+          (!toEnd || i == in.endPos())) {
+        chosen = kw;
+        end = i;
+      }
+    }
+    if (end < 0) {
+      return false;
+    }
+    bounds[0] = pos;
+    bounds[1] = end;
+    if (bounds.length > 2) {
+      bounds[2] = chosen;
+    }
+    return true;
+  }
+
+  // forRegexp() returns an automaton that finds the same matches as the
+  // simplified regexp |re|, or null unless |re| is an alternation of at
+  // least two non-empty literals, perhaps case-folded and perhaps captured
+  // as a whole.  (The parser factors common prefixes out of alternations,
+  // so the literals are recovered by multiplying the factors out again.)
+  static AhoCorasick forRegexp(Regexp re) {
+    if (re.op == Regexp.Op.CAPTURE) {
+      re = re.subs[0];
+    }
+    if (re.op == Regexp.Op.CHAR_CLASS) {
+      return null;  // (one instruction does as well)
+    }
+    boolean fold = hasFoldedLiteral(re);
+    List<int[]> keywords = literals(re, fold);
+    if (keywords == null || keywords.size() < 2) {
+      return null;
+    }
+    for (int[] kw : keywords) {
+      if (kw.length == 0) {
+        return null;  // (matches everywhere; leave it to the machine)
+      }
+    }
+    return build(keywords.toArray(new int[keywords.size()][]),
+                 fold ? FOLD_SIMPLE : FOLD_NONE);
+  }
+
+  // hasFoldedLiteral() reports whether |re| has a case-folded literal with
+  // a rune that folds.
+  private static boolean hasFoldedLiteral(Regexp re) {
+    switch (re.op) {
+      case LITERAL:
+        return (re.flags & RE2.FOLD_CASE) != 0 && hasFoldingRune(re.runes);
+      case CONCAT:
+      case ALTERNATE:
+      case QUEST:
+        for (Regexp sub : re.subs) {
+          if (hasFoldedLiteral(sub)) {
+            return true;
+          }
+        }
+        return false;
+      default:
+        return false;
+    }
+  }
+
+  private static boolean hasFoldingRune(int[] runes) {
+    for (int r : runes) {
+      if (Unicode.simpleFold(r) != r) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  // literals() returns the strings matched by |re| in leftmost-first
+  // priority order, or null if |re| is not a finite set of literals, has
+  // too many, or mixes folded and unfolded runes when |fold| is set.
+  private static List<int[]> literals(Regexp re, boolean fold) {
+    List<int[]> list = new ArrayList<int[]>();
+    switch (re.op) {
+      case EMPTY_MATCH:
+        list.add(Utils.EMPTY_INTS);
+        return list;
+      case LITERAL:
+        if (fold && (re.flags & RE2.FOLD_CASE) == 0 &&
+            hasFoldingRune(re.runes)) {
+          return null;
+        }
+        list.add(re.runes);
+        return list;
+      case CHAR_CLASS: {
+        int size = 0;
+        for (int j = 0; j < re.runes.length; j += 2) {
+          size += re.runes[j + 1] - re.runes[j] + 1;
+          if (size > MAX_CLASS) {
+            return null;
+          }
+        }
+        for (int j = 0; j < re.runes.length; j += 2) {
+          for (int r = re.runes[j]; r <= re.runes[j + 1]; r++) {
+            if (fold && !isFoldClosed(re.runes, r)) {
+              return null;
+            }
+            list.add(new int[] { r });
+          }
+        }
+        return list;
+      }
+      case QUEST: {
+        List<int[]> sub = literals(re.subs[0], fold);
+        if (sub == null || sub.size() >= MAX_KEYWORDS) {
+          return null;
+        }
+        if ((re.flags & RE2.NON_GREEDY) != 0) {
+          list.add(Utils.EMPTY_INTS);
+          list.addAll(sub);
+        } else {
+          list.addAll(sub);
+          list.add(Utils.EMPTY_INTS);
+        }
+        return list;
+      }
+      case ALTERNATE:
+        for (Regexp sub : re.subs) {
+          List<int[]> l = literals(sub, fold);
+          if (l == null || list.size() + l.size() > MAX_KEYWORDS) {
+            return null;
+          }
+          list.addAll(l);
+        }
+        return list;
+      case CONCAT:
+        list.add(Utils.EMPTY_INTS);
+        for (Regexp sub : re.subs) {
+          List<int[]> l = literals(sub, fold);
+          if (l == null || (long) list.size() * l.size() > MAX_KEYWORDS) {
+            return null;
+          }
+          List<int[]> product = new ArrayList<int[]>(list.size() * l.size());
+          for (int[] x : list) {
+            for (int[] y : l) {
+              int[] xy = Arrays.copyOf(x, x.length + y.length);
+              System.arraycopy(y, 0, xy, x.length, y.length);
+              product.add(xy);
+            }
+          }
+          list = product;
+        }
+        return list;
+      default:
+        return null;
+    }
+  }
+
+  // isFoldClosed() reports whether the class |runes| holds every rune
+  // that |r| folds to.
+  private static boolean isFoldClosed(int[] runes, int r) {
+    for (int r1 = Unicode.simpleFold(r); r1 != r; r1 = Unicode.simpleFold(r1)) {
+      if (!inClass(runes, r1)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean inClass(int[] runes, int r) {
+    for (int j = 0; j < runes.length; j += 2) {
+      if (runes[j] <= r && r <= runes[j + 1]) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  // canonical() returns the rune that |r| is compared as under |fold|:
+  // for simple folding, the least rune that |r| folds to, itself included.
+  static int canonical(int r, int fold) {
+    if (r < 0x80 || fold == FOLD_ASCII) {
+      return 'a' <= r && r <= 'z' ? r - ('a' - 'A') : r;
+    }
+    int min = r;
+    for (int r1 = Unicode.simpleFold(r); r1 != r; r1 = Unicode.simpleFold(r1)) {
+      if (r1 < min) {
+        min = r1;
+      }
+    }
+    return min;
+  }
+}
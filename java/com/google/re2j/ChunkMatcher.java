@@ -0,0 +1,308 @@
+// Copyright 2026 Google Inc. All Rights Reserved.
+
+package com.google.re2j;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+
+/**
+ * A resumable matcher for UTF-8 text that the caller pushes to it in
+ * successive chunks, as it arrives from a network connection, say.
+ * Obtain one from {@link Pattern#chunkMatcher()}.
+ *
+ * <p>Each call to {@link #feed} runs the search over the new bytes and
+ * queues the matches that they complete; {@link #find} then takes them off
+ * the queue one at a time.  A match may span any number of chunks, and a
+ * chunk may end in the middle of a UTF-8 sequence.  Call {@link #finish}
+ * at the end of the stream to complete the matches that depend on it, such
+ * as those ending in {@code $}.  Typical use:
+ *
+ * <pre>
+ *   ChunkMatcher m = pattern.chunkMatcher();
+ *   while ((n = in.read(buf)) &gt;= 0) {
+ *     m.feed(buf, 0, n);
+ *     while (m.find()) {
+ *       handle(m.start(), m.end());
+ *     }
+ *   }
+ *   m.finish();
+ *   while (m.find()) {
+ *     handle(m.start(), m.end());
+ *   }
+ * </pre>
+ *
+ * <p>Matches are the ones that {@link Matcher#find()} would report on the
+ * concatenated chunks.  Offsets are {@code long} byte offsets from the
+ * start of the stream.  Only the bytes that matches in progress may still
+ * report are retained between calls, so the match text itself is not
+ * available; callers that need it must keep the chunks.
+ *
+ * <p>Instances are not safe for use by multiple threads.
+ */
+public final class ChunkMatcher {
+
+  private static final int BUFFER_SIZE = 1024;
+
+  private final Pattern pattern;
+  private final ByteSearch search;
+
+  // The number of submatches (groups) in the pattern.
+  private final int groupCount;
+
+  // Matches found but not yet returned by find().
+  private final ArrayDeque<long[]> pending = new ArrayDeque<long[]>();
+
+  // The group offsets of the current match, or null.
+  private long[] groups;
+
+  // Total number of bytes fed.
+  private long length;
+
+  ChunkMatcher(Pattern pattern) {
+    if (pattern == null) {
+      throw new NullPointerException("pattern is null");
+    }
+    this.pattern = pattern;
+    this.search = new ByteSearch(pattern.re2());
+    this.groupCount = pattern.re2().numberOfCapturingGroups();
+  }
+
+  /** Returns the {@code Pattern} associated with this {@code ChunkMatcher}. */
+  public Pattern pattern() {
+    return pattern;
+  }
+
+  /**
+   * Feeds the next chunk of the stream.
+   *
+   * @param b the chunk, which is not retained
+   * @throws IllegalStateException if {@link #finish} has been called
+   */
+  public void feed(byte[] b) {
+    feed(b, 0, b.length);
+  }
+
+  /**
+   * Feeds the next chunk of the stream.
+   *
+   * @param b an array holding the chunk, which is not retained
+   * @param off the offset of the chunk in {@code b}
+   * @param len the length of the chunk
+   * @throws IllegalStateException if {@link #finish} has been called
+   */
+  public void feed(byte[] b, int off, int len) {
+    if (off < 0 || len < 0 || off > b.length - len) {
+      throw new IndexOutOfBoundsException(
+          "chunk out of bounds: offset " + off + ", length " + len);
+    }
+    search.append(b, off, len, null);
+    length += len;
+    run();
+  }
+
+  /**
+   * Feeds the remaining bytes of {@code b} as the next chunk of the stream,
+   * advancing its position to its limit.
+   *
+   * @param b the chunk, which is not retained
+   * @throws IllegalStateException if {@link #finish} has been called
+   */
+  public void feed(ByteBuffer b) {
+    int len = b.remaining();
+    search.append(null, 0, len, b);
+    length += len;
+    run();
+  }
+
+  /**
+   * Marks the end of the stream, completing any matches that depend on it.
+   * Calling it again has no effect.
+   */
+  public void finish() {
+    search.eof = true;
+    run();
+  }
+
+  /**
+   * Returns true if {@link #finish} has been called and all the matches
+   * have been returned by {@link #find}.
+   */
+  public boolean isDone() {
+    return search.isDone() && pending.isEmpty();
+  }
+
+  /** Returns the number of bytes fed so far. */
+  public long length() {
+    return length;
+  }
+
+  /**
+   * Moves to the next match completed by the chunks fed so far.
+   *
+   * @return true if there is one; false if the next match (if any) needs
+   *   more input
+   */
+  public boolean find() {
+    groups = pending.poll();
+    return groups != null;
+  }
+
+  /**
+   * Returns the start offset of the current match.
+   *
+   * @throws IllegalStateException if there is no match
+   */
+  public long start() {
+    return start(0);
+  }
+
+  /**
+   * Returns the end offset of the current match.
+   *
+   * @throws IllegalStateException if there is no match
+   */
+  public long end() {
+    return end(0);
+  }
+
+  /**
+   * Returns the start offset of a subgroup of the current match, or -1 if
+   * the group did not participate in it.
+   *
+   * @param group the group index; 0 is the overall match
+   * @throws IllegalStateException if there is no match
+   * @throws IndexOutOfBoundsException
+   *   if {@code group < 0} or {@code group > groupCount()}
+   */
+  public long start(int group) {
+    checkGroup(group);
+    return groups[2 * group];
+  }
+
+  /**
+   * Returns the end offset of a subgroup of the current match, or -1 if the
+   * group did not participate in it.
+   *
+   * @param group the group index; 0 is the overall match
+   * @throws IllegalStateException if there is no match
+   * @throws IndexOutOfBoundsException
+   *   if {@code group < 0} or {@code group > groupCount()}
+   */
+  public long end(int group) {
+    checkGroup(group);
+    return groups[2 * group + 1];
+  }
+
+  /**
+   * Returns the number of subgroups in this pattern.
+   *
+   * @return the number of subgroups; the overall match (group 0) does not count
+   */
+  public int groupCount() {
+    return groupCount;
+  }
+
+  // This is visible for testing.
+  int bufferSize() {
+    return search.buf.length;
+  }
+
+  // run() searches the buffered bytes, queueing the matches found.
+  private void run() {
+    while (search.advance()) {
+      pending.add(search.groups.clone());
+    }
+  }
+
+  private void checkGroup(int group) {
+    if (groups == null) {
+      throw new IllegalStateException("perhaps no match attempted");
+    }
+    if (group < 0 || group > groupCount) {
+      throw new IndexOutOfBoundsException(
+          "Group index out of bounds: " + group);
+    }
+  }
+
+  // A StreamSearch over UTF-8 text held in a byte array.
+  private static final class ByteSearch extends StreamSearch {
+    byte[] buf = new byte[BUFFER_SIZE];
+    int limit;  // end of the text in |buf|
+    boolean eof;  // has the stream ended?
+
+    ByteSearch(RE2 re2) {
+      super(re2);
+    }
+
+    // append() adds |len| bytes from |b| at |off|, or else from |bb|, to
+    // the buffer, first discarding the bytes no longer needed.
+    void append(byte[] b, int off, int len, ByteBuffer bb) {
+      if (eof) {
+        throw new IllegalStateException("stream already finished");
+      }
+      int n = discardable();
+      if (n > 0) {
+        System.arraycopy(buf, n, buf, 0, limit - n);
+        limit -= n;
+        discarded(n);
+      }
+      if (buf.length - limit < len) {
+        buf = Arrays.copyOf(buf, Math.max(limit + len, 2 * buf.length));
+      }
+      if (bb != null) {
+        bb.get(buf, limit, len);
+      } else {
+        System.arraycopy(b, off, buf, limit, len);
+      }
+      limit += len;
+    }
+
+    // Decodes as MachineInput.UTF8Input.step() does, except that a sequence
+    // cut short by the end of the buffer needs MORE input.
+    @Override
+    int step(int i) {
+      if (i >= limit) {
+        return eof ? MachineInput.EOF : MORE;
+      }
+      int x = buf[i++] & 0xff;  // zero extend
+      int width = x < 0x80 ? 1 : (x & 0xE0) == 0xC0 ? 2
+          : (x & 0xF0) == 0xE0 ? 3 : 4;
+      if (i + width - 1 > limit) {
+        return eof ? MachineInput.EOF : MORE;
+      }
+      switch (width) {
+        case 1:
+          return x << 3 | 1;
+        case 2:
+          x = (x & 0x1F) << 6 | buf[i] & 0x3F;
+          return x << 3 | 2;
+        case 3:
+          x = (x & 0x0F) << 6 | buf[i] & 0x3F;
+          x = x << 6 | buf[i + 1] & 0x3F;
+          return x << 3 | 3;
+        default:
+          x = (x & 0x07) << 6 | buf[i] & 0x3F;
+          x = x << 6 | buf[i + 1] & 0x3F;
+          x = x << 6 | buf[i + 2] & 0x3F;
+          return x << 3 | 4;
+      }
+    }
+
+    // Finds the start of the sequence, up to 4 bytes earlier, as
+    // MachineInput.UTF8Input.context() does.
+    @Override
+    int runeBefore(int i) {
+      int start = i - 1;
+      int r = buf[start--] & 0xff;  // zero extend
+      if (r < 0x80) {
+        return r;
+      }
+      int lim = Math.max(i - 4, 0);
+      while (start >= lim && (buf[start] & 0xC0) == 0x80) {  // 10xxxxxx
+        start--;
+      }
+      return step(Math.max(start, 0)) >> 3;
+    }
+  }
+}
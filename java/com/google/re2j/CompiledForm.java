@@ -0,0 +1,331 @@
+// Copyright 2026 Google Inc. All Rights Reserved.
+
+package com.google.re2j;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * CompiledForm reads and writes a compact binary form of compiled regular
+ * expressions, so that they can be shipped or stored and then used without
+ * being parsed and compiled again.
+ *
+ * <p>Integers are written as base-128 varints, low group first; signed
+ * quantities are zig-zag encoded first.  Strings are a length followed by
+ * their {@code char}s as varints, which keeps ASCII to a byte per char and
+ * preserves unpaired surrogates.  The rune list of an instruction is
+ * delta-encoded, since character class ranges are sorted.
+ *
+ * <p>A regexp that is an alternation of literals is matched by an
+ * Aho-Corasick automaton rather than its program, and the automaton is
+ * found from the parsed regexp, which the form does not keep.  The form
+ * keeps the automaton's keywords instead, from which it is rebuilt.
+ */
+final class CompiledForm {
+
+  // The format version, written at the start of every RE2.  Version 2
+  // added RUNE_COUNT instructions, and version 3 the keywords.
+  static final int VERSION = 3;
+
+  private static final Inst.Op[] OPS = Inst.Op.values();
+
+  private CompiledForm() {}  // uninstantiable
+
+  // writeRE2() writes |re2|, including its program.
+  static void writeRE2(DataOutput out, RE2 re2) throws IOException {
+    writeVarint(out, VERSION);
+    writeString(out, re2.expr);
+    writeVarint(out, re2.numSubexp);
+    out.writeBoolean(re2.longest);
+    writeVarint(out, zigzag(re2.cond));
+    writeString(out, re2.prefix);
+    out.writeBoolean(re2.prefixComplete);
+    writeProg(out, re2.prog);
+    writeKeywords(out, re2.literals);
+  }
+
+  // readRE2() reads an RE2 written by writeRE2().
+  static RE2 readRE2(DataInput in) throws IOException {
+    int version = readVarint(in);
+    if (version < 1 || version > VERSION) {
+      throw new IOException("unsupported compiled form version " + version);
+    }
+    String expr = readString(in);
+    int numSubexp = readVarint(in);
+    boolean longest = in.readBoolean();
+    int cond = unzigzag(readVarint(in));
+    String prefix = readString(in);
+    boolean prefixComplete = in.readBoolean();
+    Prog prog = readProg(in);
+    if (numSubexp < 0 || 2 * (numSubexp + 1) < prog.numCap) {
+      throw new IOException("corrupt compiled form: " + numSubexp +
+          " subexpressions, " + prog.numCap + " capture slots");
+    }
+    RE2 re2 = new RE2(expr, prog, cond, numSubexp, longest);
+    re2.setPrefix(prefix, prefixComplete);
+    if (version >= 3) {
+      re2.literals = readKeywords(in);
+    }
+    return re2;
+  }
+
+  // writeKeywords() writes the keywords of |literals|, which may be null.
+  static void writeKeywords(DataOutput out, AhoCorasick literals)
+      throws IOException {
+    if (literals == null) {
+      writeVarint(out, 0);
+      return;
+    }
+    int[][] keywords = literals.keywords();
+    writeVarint(out, keywords.length);
+    writeVarint(out, literals.fold());
+    for (int[] kw : keywords) {
+      writeVarint(out, kw.length);
+      for (int r : kw) {
+        writeVarint(out, r);
+      }
+    }
+  }
+
+  // readKeywords() reads keywords written by writeKeywords() and returns
+  // their automaton, or null if there were none.
+  static AhoCorasick readKeywords(DataInput in) throws IOException {
+    int n = readVarint(in);
+    if (n == 0) {
+      return null;
+    }
+    int fold = readVarint(in);
+    if (n < 0 || n > AhoCorasick.MAX_KEYWORDS ||
+        fold < AhoCorasick.FOLD_NONE || fold > AhoCorasick.FOLD_SIMPLE) {
+      throw new IOException("corrupt compiled form: " + n +
+          " keywords, folding " + fold);
+    }
+    int[][] keywords = new int[n][];
+    for (int k = 0; k < n; k++) {
+      int len = readVarint(in);
+      if (len <= 0) {
+        throw new IOException("corrupt compiled form: keyword length " + len);
+      }
+      // Grow the array as runes arrive rather than trust |len|.
+      int[] runes = new int[Math.min(len, 1 << 10)];
+      for (int j = 0; j < len; j++) {
+        if (j == runes.length) {
+          runes = Arrays.copyOf(runes, Math.min(len, 2 * j));
+        }
+        int r = readVarint(in);
+        if (r < 0 || r > Unicode.MAX_RUNE) {
+          throw new IOException("corrupt compiled form: rune " + r);
+        }
+        runes[j] = r;
+      }
+      keywords[k] = runes;
+    }
+    return AhoCorasick.build(keywords, fold);
+  }
+
+  // writeProg() writes |prog| instruction by instruction.
+  static void writeProg(DataOutput out, Prog prog) throws IOException {
+    int n = prog.numInst();
+    writeVarint(out, n);
+    writeVarint(out, prog.start);
+    writeVarint(out, prog.numCap);
+    for (int pc = 0; pc < n; pc++) {
+      Inst i = prog.getInst(pc);
+      out.writeByte(i.op.ordinal());
+      writeVarint(out, i.out);
+      writeVarint(out, zigzag(i.arg));
+      if (i.runes == null) {
+        writeVarint(out, 0);
+      } else {
+        writeVarint(out, i.runes.length + 1);
+        int prev = 0;
+        for (int r : i.runes) {
+          writeVarint(out, zigzag(r - prev));
+          prev = r;
+        }
+      }
+      if (i.op == Inst.Op.RUNE_COUNT) {
+        writeVarint(out, zigzag(i.max));
+        out.writeBoolean(i.nonGreedy);
+      }
+    }
+  }
+
+  // readProg() reads a program written by writeProg(), checking that its
+  // links are in range so that a corrupt program fails here rather than
+  // during a match.
+  static Prog readProg(DataInput in) throws IOException {
+    int n = readVarint(in);
+    int start = readVarint(in);
+    int numCap = readVarint(in);
+    if (n <= 0 || start < 0 || start >= n || numCap < 2 || numCap % 2 != 0) {
+      throw new IOException("corrupt compiled form: " + n +
+          " instructions, start " + start + ", " + numCap + " capture slots");
+    }
+    Prog prog = new Prog();
+    prog.start = start;
+    prog.numCap = numCap;
+    for (int pc = 0; pc < n; pc++) {
+      int op = in.readUnsignedByte();
+      if (op >= OPS.length) {
+        throw new IOException("corrupt compiled form: opcode " + op);
+      }
+      prog.addInst(OPS[op]);
+      Inst i = prog.getInst(pc);
+      i.out = readVarint(in);
+      i.arg = unzigzag(readVarint(in));
+      int len = readVarint(in) - 1;
+      if (len < -1) {
+        throw new IOException("corrupt compiled form: rune count " + len);
+      }
+      if (len >= 0) {
+        // Grow the array as runes arrive rather than trust |len|.
+        int[] runes = new int[Math.min(len, 1 << 10)];
+        int prev = 0;
+        for (int j = 0; j < len; j++) {
+          if (j == runes.length) {
+            runes = Arrays.copyOf(runes, Math.min(len, 2 * j));
+          }
+          runes[j] = prev += unzigzag(readVarint(in));
+        }
+        i.runes = runes;
+      }
+      if (i.op == Inst.Op.RUNE_COUNT) {
+        i.max = unzigzag(readVarint(in));
+        i.nonGreedy = in.readBoolean();
+      }
+      if (!isValid(i, n, numCap)) {
+        throw new IOException("corrupt compiled form: " + pc + " " + i);
+      }
+    }
+    checkChains(prog);
+    return prog;
+  }
+
+  // checkChains() throws if following the out links of NOP, CAPTURE and
+  // EMPTY_WIDTH instructions can loop forever.  Code that skips them, such
+  // as Prog.skipCaptures() and Prog.startCond(), relies on every loop in a
+  // program passing through an ALT.
+  private static void checkChains(Prog prog) throws IOException {
+    int n = prog.numInst();
+    byte[] state = new byte[n];  // 0: unseen, 1: on this chain, 2: done
+    for (int pc = 0; pc < n; pc++) {
+      int end = pc;
+      while (state[end] == 0 && isEmptyWidth(prog.getInst(end))) {
+        state[end] = 1;
+        end = prog.getInst(end).out;
+      }
+      if (state[end] == 1) {
+        throw new IOException("corrupt compiled form: loop at " + end);
+      }
+      for (int j = pc; state[j] == 1; j = prog.getInst(j).out) {
+        state[j] = 2;
+      }
+    }
+  }
+
+  // isEmptyWidth() reports whether |i| always continues at |i.out| without
+  // consuming input.
+  private static boolean isEmptyWidth(Inst i) {
+    switch (i.op) {
+      case NOP:
+      case CAPTURE:
+      case EMPTY_WIDTH:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  // isValid() reports whether |i| is well formed in a program of |n|
+  // instructions with |numCap| capture slots.
+  private static boolean isValid(Inst i, int n, int numCap) {
+    switch (i.op) {
+      case MATCH:
+      case FAIL:
+        return true;
+      case ALT:
+      case ALT_MATCH:
+        if (i.arg < 0 || i.arg >= n) {
+          return false;
+        }
+        break;
+      case CAPTURE:
+        if (i.arg < 0 || i.arg >= numCap) {
+          return false;
+        }
+        break;
+      case RUNE:
+      case RUNE1:
+        if (i.runes == null ||
+            i.runes.length != 1 && i.runes.length % 2 != 0) {
+          return false;
+        }
+        break;
+      case RUNE_COUNT:
+        if (i.runes == null || i.runes.length % 2 != 0 || i.arg < 0 ||
+            i.max < -1 || i.max >= 0 && i.max < i.arg) {
+          return false;
+        }
+        break;
+      default:
+        break;
+    }
+    return i.out >= 0 && i.out < n;
+  }
+
+  static void writeString(DataOutput out, String s) throws IOException {
+    int n = s.length();
+    writeVarint(out, n);
+    for (int i = 0; i < n; i++) {
+      writeVarint(out, s.charAt(i));
+    }
+  }
+
+  static String readString(DataInput in) throws IOException {
+    int n = readVarint(in);
+    if (n < 0) {
+      throw new IOException("corrupt compiled form: string length " + n);
+    }
+    StringBuilder sb = new StringBuilder(Math.min(n, 1 << 16));
+    for (int i = 0; i < n; i++) {
+      int c = readVarint(in);
+      if (c < 0 || c > Character.MAX_VALUE) {
+        throw new IOException("corrupt compiled form: char " + c);
+      }
+      sb.append((char) c);
+    }
+    return sb.toString();
+  }
+
+  // writeVarint() writes the 32 bits of |x| as an unsigned varint.
+  static void writeVarint(DataOutput out, int x) throws IOException {
+    while ((x & ~0x7F) != 0) {
+      out.writeByte(x & 0x7F | 0x80);
+      x >>>= 7;
+    }
+    out.writeByte(x);
+  }
+
+  static int readVarint(DataInput in) throws IOException {
+    int x = 0;
+    for (int shift = 0; shift < 35; shift += 7) {
+      int b = in.readUnsignedByte();
+      x |= (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return x;
+      }
+    }
+    throw new IOException("corrupt compiled form: varint too long");
+  }
+
+  private static int zigzag(int x) {
+    return x << 1 ^ x >> 31;
+  }
+
+  private static int unzigzag(int x) {
+    return x >>> 1 ^ -(x & 1);
+  }
+}
@@ -7,6 +7,8 @@
 
 package com.google.re2j;
 
+import java.util.Arrays;
+
 /**
  * Compiler from {@code Regexp} (RE2 abstract syntax) to {@code RE2}
  * (compiled regular expression).
@@ -39,12 +41,25 @@ class Compiler {
 
   private final Prog prog = new Prog();  // Program being built
 
-  private Compiler() {
+  // Whether each instruction records the regexp node it was compiled from,
+  // and that node.
+  private final boolean recordSources;
+  private Regexp source;
+
+  private Compiler(boolean recordSources) {
+    this.recordSources = recordSources;
     newInst(Inst.Op.FAIL);  // always the first instruction
   }
 
   static Prog compileRegexp(Regexp re) {
-    Compiler c = new Compiler();
+    return compileRegexp(re, false);
+  }
+
+  // compileRegexp() is like the above, but if |recordSources| it sets the
+  // source of each instruction to the node of |re| that it was compiled
+  // from, for PatternProfiler.
+  static Prog compileRegexp(Regexp re, boolean recordSources) {
+    Compiler c = new Compiler(recordSources);
     Frag f = c.compile(re);
     c.prog.patch(f.out, c.newInst(Inst.Op.MATCH).i);
     c.prog.start = f.i;
@@ -54,6 +69,9 @@ class Compiler {
   private Frag newInst(Inst.Op op) {
     // TODO(rsc): impose length limit.
     prog.addInst(op);
+    if (recordSources) {
+      prog.getInst(prog.numInst() - 1).source = source;
+    }
     return new Frag(prog.numInst() - 1);
   }
 
@@ -159,11 +177,16 @@ class Compiler {
   private Frag rune(int[] runes, int flags) {
     Frag f = newInst(Inst.Op.RUNE);
     Inst i = prog.getInst(f.i);
-    i.runes = runes;
     flags &= RE2.FOLD_CASE;  // only relevant flag is FoldCase
     if (runes.length != 1 || Unicode.simpleFold(runes[0]) == runes[0]) {
       flags &= ~RE2.FOLD_CASE;  // and sometimes not even that
+    } else if (flags != 0) {
+      // Match the rune's whole orbit as a class, so that matchRune()
+      // needn't walk it for every rune tried.
+      runes = foldOrbit(runes[0]);
+      flags = 0;
     }
+    i.runes = runes;
     i.arg = flags;
     f.out = f.i << 1;
     // Special cases for exec machine.
@@ -185,12 +208,82 @@ class Compiler {
     return f;
   }
 
+  // foldOrbit() returns the runes equivalent to |r| under simple case
+  // folding, |r| included, as a list of [lo, hi] pairs.
+  private static int[] foldOrbit(int r) {
+    int[] orbit = new int[4];
+    int n = 0;
+    int r1 = r;
+    do {
+      if (n == orbit.length) {
+        orbit = Arrays.copyOf(orbit, 2 * n);
+      }
+      orbit[n++] = r1;
+      r1 = Unicode.simpleFold(r1);
+    } while (r1 != r);
+    Arrays.sort(orbit, 0, n);
+    int[] runes = new int[2 * n];
+    int len = 0;
+    for (int j = 0; j < n; j++) {
+      if (len > 0 && runes[len - 1] + 1 == orbit[j]) {
+        runes[len - 1] = orbit[j];  // extend the last range
+      } else {
+        runes[len++] = orbit[j];
+        runes[len++] = orbit[j];
+      }
+    }
+    return Arrays.copyOf(runes, len);
+  }
+
+  // count() compiles |sub|{min,max}, where |sub| matches a single rune, to
+  // one RUNE_COUNT instruction.  The machine keeps a count with each
+  // thread at the instruction, so the program doesn't grow with the
+  // count.
+  private Frag count(Regexp sub, int min, int max, boolean nonGreedy) {
+    int[] runes;
+    switch (sub.op) {
+      case LITERAL:
+        int r = sub.runes[0];
+        runes = (sub.flags & RE2.FOLD_CASE) != 0
+            ? foldOrbit(r)
+            : new int[] { r, r };
+        break;
+      case CHAR_CLASS:
+        runes = sub.runes;
+        break;
+      case ANY_CHAR_NOT_NL:
+        runes = ANY_RUNE_NOT_NL;
+        break;
+      case ANY_CHAR:
+        runes = ANY_RUNE;
+        break;
+      default:
+        throw new IllegalStateException("regexp: bad counted repetition");
+    }
+    Frag f = newInst(Inst.Op.RUNE_COUNT);
+    Inst i = prog.getInst(f.i);
+    i.runes = runes;
+    i.arg = min;
+    i.max = max;
+    i.nonGreedy = nonGreedy;
+    f.out = f.i << 1;
+    return f;
+  }
+
   private static final int[] ANY_RUNE_NOT_NL = {
     0, '\n' - 1, '\n' + 1, Unicode.MAX_RUNE
   };
   private static final int[] ANY_RUNE = { 0, Unicode.MAX_RUNE };
 
   private Frag compile(Regexp re) {
+    Regexp outer = source;
+    source = re;
+    Frag f = compileNode(re);
+    source = outer;
+    return f;
+  }
+
+  private Frag compileNode(Regexp re) {
     switch (re.op) {
       case NO_MATCH:
         return fail();
@@ -248,6 +341,10 @@ class Compiler {
           }
           return f;
         }
+      case REPEAT:
+        // Left by Simplify only for large repetitions of a single rune.
+        return count(re.subs[0], re.min, re.max,
+                     (re.flags & RE2.NON_GREEDY) != 0);
       case ALTERNATE: {
         if (re.subs.length == 0) {
           return nop();
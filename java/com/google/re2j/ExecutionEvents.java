@@ -0,0 +1,34 @@
+// Copyright 2026 Google Inc. All Rights Reserved.
+
+package com.google.re2j;
+
+/**
+ * ExecutionEvents reports executions of regexps to JDK Flight Recorder.
+ * This is the version for runtimes without it, which reports nothing;
+ * on Java 11 and later the multi-release jar replaces it with the one in
+ * java11/, which emits an event for each execution that is slow or has a
+ * large input.
+ */
+final class ExecutionEvents {
+
+  private ExecutionEvents() {}  // uninstantiable
+
+  // active() reports whether begin() may return an event, that is, whether
+  // a recording is running.
+  static boolean active() {
+    return false;
+  }
+
+  // begin() starts timing an execution over an input of |inputLength|
+  // units and returns the event to pass to end(), or null if the
+  // execution is not recorded.
+  static Object begin(int inputLength) {
+    return null;
+  }
+
+  // end() finishes |event| for an execution of |re2| with the RE2 anchor
+  // |anchor| over an input of |inputLength| units, and commits it if it
+  // reached its threshold.
+  static void end(Object event, RE2 re2, int anchor, int inputLength,
+                  boolean matched) {}
+}
@@ -0,0 +1,565 @@
+// Copyright 2026 Google Inc. All Rights Reserved.
+
+package com.google.re2j;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * A stateful iterator over the matches of a {@code Pattern} in a UTF-8
+ * file, which it reads through memory mappings rather than copying the file
+ * onto the heap.  Obtain one from {@link Pattern#fileMatcher(File)} and
+ * {@link #close} it when done.
+ *
+ * <p>Files of any size are supported: the file is mapped in chunks of at
+ * most 1 GiB, and each search runs over a window of up to 1 GiB that may
+ * span several chunks.  Windows overlap by half their size, so a match is
+ * found exactly as if the whole file were searched at once provided that
+ * it, and the text the pattern must examine to decide it, fits within half
+ * a window (512 MiB).  A match that runs to the end of a window is
+ * confirmed by searching again over a wider one.
+ *
+ * <p>All positions are byte offsets from the start of the file.  Groups
+ * can be obtained as {@code ByteBuffer} views of the mapped file, which
+ * share its memory, or decoded to {@code String}s.
+ *
+ * <p>{@link #findLine()} instead finds the lines that contain a match, in
+ * the way that {@link LineMatcher} does.
+ *
+ * <p>Instances are not safe for use by multiple threads.
+ */
+public final class FileMatcher implements Closeable {
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+  // Chunks are 1 << CHUNK_SHIFT bytes long, except the last.
+  private static final int CHUNK_SHIFT = 30;
+
+  // Default size of the window over which the machine runs.
+  private static final int WINDOW = 1 << 30;
+
+  private final Pattern pattern;
+  private final RE2 re2;
+
+  // |re2| adapted to run over all the lines at once, or null if it can't be.
+  private final RE2 lineRE2;
+  private final RandomAccessFile file;
+  private final FileChannel channel;
+  private final long size;
+  private final int chunkShift;
+  private final int window;
+  private ByteBuffer[] chunks;
+
+  // The group offsets, in [start, end) pairs.  Zeroth pair is overall match.
+  private final long[] groups;
+
+  // The number of submatches (groups) in the pattern.
+  private final int groupCount;
+
+  // Is there a current match?
+  private boolean hasMatch;
+
+  // Have we found the submatches (groups) of the current match?
+  private boolean hasGroups;
+
+  // The current line, set by findLine(); lineEnd < 0 if none.
+  private long lineStart;
+  private long lineEnd = -1;
+
+  // The RE2 that found the current match, and whether it searched the
+  // current line on its own.
+  private RE2 matchRE2;
+  private boolean matchInLine;
+
+  // Line-number cache: the number of the line holding offset |linePos|.
+  private long linePos;
+  private long lineNumber = 1;
+
+  FileMatcher(Pattern pattern, File file) throws IOException {
+    this(pattern, file, CHUNK_SHIFT, WINDOW);
+  }
+
+  // This is visible for testing.
+  FileMatcher(Pattern pattern, File file, int chunkShift, int window)
+      throws IOException {
+    if (pattern == null) {
+      throw new NullPointerException("pattern is null");
+    }
+    this.pattern = pattern;
+    this.re2 = pattern.re2();
+    this.lineRE2 = re2.lineRE2();
+    this.groupCount = re2.numberOfCapturingGroups();
+    this.groups = new long[2 + 2 * groupCount];
+    this.chunkShift = chunkShift;
+    this.window = window;
+    this.file = new RandomAccessFile(file, "r");
+    boolean ok = false;
+    try {
+      this.channel = this.file.getChannel();
+      this.size = channel.size();
+      long chunkSize = 1L << chunkShift;
+      int n = (int) ((size + chunkSize - 1) >> chunkShift);
+      chunks = new ByteBuffer[n];
+      for (int i = 0; i < n; i++) {
+        long pos = (long) i << chunkShift;
+        chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, pos,
+            Math.min(chunkSize, size - pos));
+      }
+      ok = true;
+    } finally {
+      if (!ok) {
+        this.file.close();
+      }
+    }
+  }
+
+  /** Returns the {@code Pattern} associated with this {@code FileMatcher}. */
+  public Pattern pattern() {
+    return pattern;
+  }
+
+  /** Returns the size of the file in bytes. */
+  public long size() {
+    return size;
+  }
+
+  /**
+   * Rewinds to the start of the file, discarding any match information.
+   *
+   * @return the {@code FileMatcher} itself, for chained method calls
+   */
+  public FileMatcher reset() {
+    hasMatch = false;
+    hasGroups = false;
+    lineEnd = -1;
+    return this;
+  }
+
+  /**
+   * Finds the next match in the file.  The search begins at the end of the
+   * last match, or else the beginning of the file.
+   *
+   * @return true if it finds a match
+   */
+  public boolean find() {
+    long start = 0;
+    if (hasMatch) {
+      start = groups[1];
+      if (groups[0] == groups[1]) {  // empty match - nudge forward
+        if (start >= size) {
+          hasMatch = false;
+          return false;
+        }
+        start += runeWidth(start);
+      }
+    }
+    return search(re2, start);
+  }
+
+  /**
+   * Finds the next line that contains a match, as {@link LineMatcher#find}
+   * does, and makes the first match in it the current match.  The search
+   * begins at the line after the current line, or after the line holding
+   * the current match, or else at the beginning of the file.
+   *
+   * @return true if it finds one
+   */
+  public boolean findLine() {
+    long next = 0;
+    if (lineEnd >= 0) {
+      next = lineEnd + 1;
+    } else if (hasMatch) {
+      next = indexOfNewline(groups[0]) + 1;
+    }
+    lineEnd = -1;
+    if (next >= size) {
+      hasMatch = false;
+      return false;
+    }
+    if (lineRE2 != null) {
+      // An empty match at the very end is in no line if the file ends
+      // with '\n'.
+      if (!search(lineRE2, next) ||
+          groups[0] == size && get(size - 1) == '\n') {
+        hasMatch = false;
+        return false;
+      }
+      long start = groups[0];
+      while (start > next && get(start - 1) != '\n') {
+        start--;
+      }
+      lineStart = start;
+      lineEnd = indexOfNewline(groups[0]);
+      return true;
+    }
+    checkOpen();
+    hasMatch = false;
+    hasGroups = false;
+    for (; next < size; next = lineEnd + 1) {
+      lineStart = next;
+      lineEnd = indexOfNewline(next);
+      MachineInput in = new MachineInput.ChunkedUTF8Input(
+          chunks, chunkShift, lineStart, lineEnd, size);
+      int[] cap = re2.doExecute(in, 0, RE2.UNANCHORED, 2);
+      if (cap != null) {
+        groups[0] = lineStart + cap[0];
+        groups[1] = lineStart + cap[1];
+        hasMatch = true;
+        matchRE2 = re2;
+        matchInLine = true;
+        return true;
+      }
+    }
+    lineEnd = -1;
+    return false;
+  }
+
+  /**
+   * Returns the offset of the start of the line found by
+   * {@link #findLine()}.
+   *
+   * @throws IllegalStateException if there is no such line
+   */
+  public long lineStart() {
+    checkLine();
+    return lineStart;
+  }
+
+  /**
+   * Returns the offset of the end of the line found by {@link #findLine()},
+   * which is that of its terminating {@code '\n'}, if any.
+   *
+   * @throws IllegalStateException if there is no such line
+   */
+  public long lineEnd() {
+    checkLine();
+    return lineEnd;
+  }
+
+  /**
+   * Returns the line found by {@link #findLine()}, without its
+   * {@code '\n'}, decoded from UTF-8.
+   *
+   * @throws IllegalStateException if there is no such line
+   */
+  public String line() {
+    checkLine();
+    return UTF_8.decode(slice(lineStart, lineEnd)).toString();
+  }
+
+  /**
+   * Resets and finds the first match at or after the specified offset.
+   *
+   * @param start the byte offset where the search begins
+   * @return true if it finds a match
+   * @throws IndexOutOfBoundsException if start is not an offset in the file
+   */
+  public boolean find(long start) {
+    if (start < 0 || start > size) {
+      throw new IndexOutOfBoundsException(
+          "start index out of bounds: " + start);
+    }
+    reset();
+    return search(re2, start);
+  }
+
+  // Searches for the leftmost match of |re2| at or after |from|, sliding the
+  // window forward while the result may depend on bytes beyond it.
+  private boolean search(RE2 re2, long from) {
+    checkOpen();
+    hasMatch = false;
+    hasGroups = false;
+    lineEnd = -1;
+    int window = this.window;
+    for (;;) {
+      // Start the window one byte early so that the machine sees position 0
+      // only at the start of the file.
+      long origin = from > 0 ? from - 1 : 0;
+      long end = Math.min(size, origin + window);
+      MachineInput.ChunkedUTF8Input in = new MachineInput.ChunkedUTF8Input(
+          chunks, chunkShift, origin, end, size);
+      int[] cap = re2.doExecute(in, (int) (from - origin), RE2.UNANCHORED, 2);
+      long half = end - window / 2;
+      // Whether the match runs to the end of the window, or to a rune cut
+      // off by it, which the machine took for the end of the text.
+      boolean atEnd = in.hitEnd && cap != null &&
+          origin + cap[1] + runeWidth(origin + cap[1]) > end;
+      if (atEnd && origin + cap[0] < half && window < Integer.MAX_VALUE) {
+        // It may not be a match at all; search again over a wider window.
+        window = (int) Math.min(2L * window, Integer.MAX_VALUE);
+        continue;
+      }
+      if (in.hitEnd && (cap == null || origin + cap[0] >= half || atEnd)) {
+        // Any match that fits in half a window and starts before |half|
+        // would have been found; look again from the rune there.
+        from = Math.max(from, runeStart(half));
+        continue;
+      }
+      if (cap == null) {
+        return false;
+      }
+      groups[0] = origin + cap[0];
+      groups[1] = origin + cap[1];
+      hasMatch = true;
+      matchRE2 = re2;
+      matchInLine = false;
+      return true;
+    }
+  }
+
+  /**
+   * Returns the start offset of the most recent match.
+   *
+   * @throws IllegalStateException if there is no match
+   */
+  public long start() {
+    return start(0);
+  }
+
+  /**
+   * Returns the end offset of the most recent match.
+   *
+   * @throws IllegalStateException if there is no match
+   */
+  public long end() {
+    return end(0);
+  }
+
+  /**
+   * Returns the start offset of a subgroup of the most recent match, or -1
+   * if the group did not participate in it.
+   *
+   * @param group the group index; 0 is the overall match
+   * @throws IllegalStateException if there is no match
+   * @throws IndexOutOfBoundsException
+   *   if {@code group < 0} or {@code group > groupCount()}
+   */
+  public long start(int group) {
+    loadGroup(group);
+    return groups[2 * group];
+  }
+
+  /**
+   * Returns the end offset of a subgroup of the most recent match, or -1 if
+   * the group did not participate in it.
+   *
+   * @param group the group index; 0 is the overall match
+   * @throws IllegalStateException if there is no match
+   * @throws IndexOutOfBoundsException
+   *   if {@code group < 0} or {@code group > groupCount()}
+   */
+  public long end(int group) {
+    loadGroup(group);
+    return groups[2 * group + 1];
+  }
+
+  /**
+   * Returns the bytes of the most recent match as a read-only view of the
+   * mapped file.
+   *
+   * @throws IllegalStateException if there is no match
+   */
+  public ByteBuffer slice() {
+    return slice(0);
+  }
+
+  /**
+   * Returns the bytes of a subgroup of the most recent match as a read-only
+   * view of the mapped file, or null if the group did not participate in
+   * the match.
+   *
+   * @param group the group index; 0 is the overall match
+   * @throws IllegalStateException if there is no match
+   * @throws IndexOutOfBoundsException
+   *   if {@code group < 0} or {@code group > groupCount()}
+   */
+  public ByteBuffer slice(int group) {
+    long start = start(group);
+    if (start < 0) {
+      return null;
+    }
+    return slice(start, end(group));
+  }
+
+  // slice() returns a read-only view of the bytes in [start, end).
+  private ByteBuffer slice(long start, long end) {
+    checkOpen();
+    if (start == end) {  // perhaps at the end, or in an empty file
+      return ByteBuffer.allocate(0).asReadOnlyBuffer();
+    }
+    int chunk = (int) (start >>> chunkShift);
+    long chunkStart = (long) chunk << chunkShift;
+    if (end - chunkStart <= chunks[chunk].capacity()) {
+      ByteBuffer b = chunks[chunk].duplicate();
+      b.position((int) (start - chunkStart));
+      b.limit((int) (end - chunkStart));
+      return b.slice();
+    }
+    // Straddles two chunks: map it on its own.
+    try {
+      return channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+    } catch (IOException e) {
+      throw new IllegalStateException("can't map matched bytes", e);
+    }
+  }
+
+  /**
+   * Returns the most recent match, decoded from UTF-8.
+   *
+   * @throws IllegalStateException if there is no match
+   */
+  public String group() {
+    return group(0);
+  }
+
+  /**
+   * Returns a subgroup of the most recent match, decoded from UTF-8, or null
+   * if the group did not participate in the match.
+   *
+   * @param group the group index; 0 is the overall match
+   * @throws IllegalStateException if there is no match
+   * @throws IndexOutOfBoundsException
+   *   if {@code group < 0} or {@code group > groupCount()}
+   */
+  public String group(int group) {
+    ByteBuffer b = slice(group);
+    return b == null ? null : UTF_8.decode(b).toString();
+  }
+
+  /**
+   * Returns the number of subgroups in this pattern.
+   *
+   * @return the number of subgroups; the overall match (group 0) does not count
+   */
+  public int groupCount() {
+    return groupCount;
+  }
+
+  /**
+   * Returns the 1-based number of the line holding the start of the most
+   * recent match.  Lines are terminated by {@code '\n'}.  Line numbers are
+   * computed on demand by counting newlines from the last line number
+   * computed, so asking for them in increasing offset order costs one
+   * pass over the file in total.
+   *
+   * @throws IllegalStateException if there is no match
+   */
+  public long lineNumber() {
+    long start = start();
+    if (start < linePos) {
+      linePos = 0;
+      lineNumber = 1;
+    }
+    for (long i = linePos; i < start; i++) {
+      if (get(i) == '\n') {
+        lineNumber++;
+      }
+    }
+    linePos = start;
+    return lineNumber;
+  }
+
+  /**
+   * Releases the file.  The views returned by {@link #slice} remain valid.
+   */
+  @Override
+  public void close() throws IOException {
+    chunks = null;
+    file.close();
+  }
+
+  // Helper: finds subgroup information if needed for group.
+  private void loadGroup(int group) {
+    if (group < 0 || group > groupCount) {
+      throw new IndexOutOfBoundsException(
+          "Group index out of bounds: " + group);
+    }
+    if (!hasMatch) {
+      throw new IllegalStateException("perhaps no match attempted");
+    }
+    if (group == 0 || hasGroups) {
+      return;
+    }
+    checkOpen();
+    // As in Matcher, include the character after the match so that
+    // empty-width assertions see the same context.  A match found in a
+    // line on its own is found again in that line.
+    long from = groups[0];
+    long origin;
+    long end;
+    if (matchInLine) {
+      origin = lineStart;
+      end = lineEnd;
+    } else {
+      origin = from > 0 ? from - 1 : 0;
+      end = Math.min(size, groups[1] + runeWidth(groups[1]));
+    }
+    MachineInput in = new MachineInput.ChunkedUTF8Input(
+        chunks, chunkShift, origin, end, size);
+    int[] cap = matchRE2.doExecute(in, (int) (from - origin),
+        RE2.UNANCHORED, matchRE2.prog.numCap);
+    // Must match - hasMatch says that the last search found this match.
+    if (cap == null) {
+      throw new IllegalStateException("inconsistency in matching group data");
+    }
+    Arrays.fill(groups, 2, groups.length, -1);
+    for (int i = 2; i < cap.length && i < groups.length; i++) {
+      groups[i] = cap[i] < 0 ? -1 : origin + cap[i];
+    }
+    hasGroups = true;
+  }
+
+  // Returns the number of bytes in the UTF-8 sequence at |pos|.
+  private int runeWidth(long pos) {
+    if (pos >= size) {
+      return 1;
+    }
+    int x = get(pos);
+    int width = x < 0xC0 ? 1 : x < 0xE0 ? 2 : x < 0xF0 ? 3 : 4;
+    return (int) Math.min(width, size - pos);
+  }
+
+  // runeStart() returns the offset of the start of the UTF-8 sequence
+  // holding |pos|, looking back at most 3 bytes.
+  private long runeStart(long pos) {
+    long lim = Math.max(0, pos - 3);
+    while (pos > lim && pos < size && (get(pos) & 0xC0) == 0x80) {  // 10xxxxxx
+      pos--;
+    }
+    return pos;
+  }
+
+  // indexOfNewline() returns the offset of the first '\n' at or after
+  // |from|, or the size of the file if there is none.
+  private long indexOfNewline(long from) {
+    checkOpen();
+    for (long i = from; i < size; i++) {
+      if (get(i) == '\n') {
+        return i;
+      }
+    }
+    return size;
+  }
+
+  private int get(long pos) {
+    return chunks[(int) (pos >>> chunkShift)]
+        .get((int) (pos & ((1L << chunkShift) - 1))) & 0xff;
+  }
+
+  private void checkLine() {
+    if (lineEnd < 0) {
+      throw new IllegalStateException("perhaps no line found");
+    }
+  }
+
+  private void checkOpen() {
+    if (chunks == null) {
+      throw new IllegalStateException("FileMatcher is closed");
+    }
+  }
+}
@@ -25,14 +25,18 @@ class Inst {
     RUNE1,
     RUNE_ANY,
     RUNE_ANY_NOT_NL,
+    RUNE_COUNT,
   }
 
   Op op;
   int out;  // all but MATCH, FAIL
-  int arg;  // ALT, ALT_MATCH, CAPTURE, EMPTY_WIDTH
+  int arg;  // ALT, ALT_MATCH, CAPTURE, EMPTY_WIDTH; RUNE_COUNT: minimum count
   int[] runes;  // length==1 => exact match
                 // otherwise a list of [lo,hi] pairs.  hi is *inclusive*.
                 // REVIEWERS: why not half-open intervals?
+  int max;  // RUNE_COUNT: maximum count, or -1 for no maximum
+  boolean nonGreedy;  // RUNE_COUNT: prefer fewer repetitions?
+  Regexp source;  // the regexp node compiled to this, if recorded
 
   Inst(Op op) {
     this.op = op;
@@ -129,6 +133,9 @@ class Inst {
         return "any -> " + out;
       case RUNE_ANY_NOT_NL:
         return "anynotnl -> " + out;
+      case RUNE_COUNT:
+        return "count " + arg + "," + (max < 0 ? "" : Integer.toString(max)) +
+            (nonGreedy ? "?" : "") + " " + escapeRunes(runes) + " -> " + out;
       default:
         throw new IllegalStateException("unhandled case in Inst.toString");
     }
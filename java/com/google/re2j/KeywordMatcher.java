@@ -0,0 +1,153 @@
+// Copyright 2026 Google Inc. All Rights Reserved.
+
+package com.google.re2j;
+
+import java.io.UnsupportedEncodingException;
+
+/**
+ * An iterator over the occurrences of the keywords of a {@link KeywordSet}
+ * in a text, in the manner of {@link Matcher#find()}.  Obtain one from
+ * {@link KeywordSet#matcher(CharSequence)} or
+ * {@link KeywordSet#matcherUTF8(byte[])}.
+ *
+ * <p>Each search starts where the previous occurrence ended, so the
+ * occurrences found do not overlap.  Offsets are {@code char} indices for
+ * a {@code CharSequence} and byte indices for a {@code byte[]}.  Instances
+ * are not safe for use by multiple threads.
+ */
+public final class KeywordMatcher {
+
+  private final KeywordSet keywords;
+
+  // The input: exactly one of |chars| and |bytes| is non-null.
+  private final CharSequence chars;
+  private final byte[] bytes;
+  private final MachineInput in;
+
+  // The current occurrence: start, end and keyword index; start < 0 if
+  // there is none.
+  private final int[] match = {-1, -1, -1};
+
+  // Where the next search starts.
+  private int next;
+
+  KeywordMatcher(KeywordSet keywords, CharSequence input) {
+    if (input == null) {
+      throw new NullPointerException("input is null");
+    }
+    this.keywords = keywords;
+    this.chars = input;
+    this.bytes = null;
+    this.in = MachineInput.fromUTF16(input);
+  }
+
+  KeywordMatcher(KeywordSet keywords, byte[] input) {
+    if (input == null) {
+      throw new NullPointerException("input is null");
+    }
+    this.keywords = keywords;
+    this.chars = null;
+    this.bytes = input;
+    this.in = MachineInput.fromUTF8(input);
+  }
+
+  /** Returns the {@code KeywordSet} associated with this matcher. */
+  public KeywordSet keywordSet() {
+    return keywords;
+  }
+
+  /**
+   * Rewinds to the start of the input, discarding any occurrence.
+   *
+   * @return the {@code KeywordMatcher} itself, for chained method calls
+   */
+  public KeywordMatcher reset() {
+    next = 0;
+    match[0] = -1;
+    return this;
+  }
+
+  /**
+   * Finds the next occurrence of a keyword.
+   *
+   * @return true if it finds one
+   */
+  public boolean find() {
+    if (next > in.endPos() || !keywords.find(in, next, match)) {
+      match[0] = -1;
+      next = in.endPos() + 1;
+      return false;
+    }
+    next = match[1];
+    return true;
+  }
+
+  /**
+   * Finds the first occurrence of a keyword at or after {@code start}.
+   *
+   * @return true if it finds one
+   * @throws IndexOutOfBoundsException if {@code start} is not a valid
+   *   offset in the input
+   */
+  public boolean find(int start) {
+    if (start < 0 || start > in.endPos()) {
+      throw new IndexOutOfBoundsException(
+          "start index out of bounds: " + start);
+    }
+    next = start;
+    return find();
+  }
+
+  /**
+   * Returns the offset of the start of the current occurrence.
+   *
+   * @throws IllegalStateException if there is no current occurrence
+   */
+  public int start() {
+    checkMatch();
+    return match[0];
+  }
+
+  /**
+   * Returns the offset of the end of the current occurrence.
+   *
+   * @throws IllegalStateException if there is no current occurrence
+   */
+  public int end() {
+    checkMatch();
+    return match[1];
+  }
+
+  /**
+   * Returns the index in the keyword list of the keyword that occurs.
+   *
+   * @throws IllegalStateException if there is no current occurrence
+   */
+  public int keyword() {
+    checkMatch();
+    return match[2];
+  }
+
+  /**
+   * Returns the text of the current occurrence.
+   *
+   * @throws IllegalStateException if there is no current occurrence
+   */
+  public String group() {
+    checkMatch();
+    if (chars != null) {
+      return chars.subSequence(match[0], match[1]).toString();
+    }
+    try {
+      return new String(bytes, match[0], match[1] - match[0], "UTF-8");
+    } catch (UnsupportedEncodingException e) {
+      throw new IllegalStateException("can't happen");
+    }
+  }
+
+  private void checkMatch() {
+    if (match[0] < 0) {
+      throw new IllegalStateException("perhaps no match attempted");
+    }
+  }
+}
@@ -0,0 +1,151 @@
+// Copyright 2026 Google Inc. All Rights Reserved.
+
+package com.google.re2j;
+
+import java.util.Collection;
+
+/**
+ * A compiled set of literal keywords, for finding occurrences of any of
+ * them in a text.  Unlike a {@link Pattern} built by joining quoted
+ * keywords with {@code |}, a set is not parsed or compiled to a program:
+ * it is an Aho-Corasick automaton over a trie held in a few primitive
+ * arrays, so sets of millions of keywords are practical, and a search
+ * costs one step per character of the text however many keywords there
+ * are.
+ *
+ * <p>A search finds the leftmost occurrence of any keyword.  Among the
+ * keywords occurring there it chooses the one listed first, as the
+ * alternation {@code k0|k1|...} would, or with {@link #LONGEST_MATCH} the
+ * longest.
+ *
+ * <p>Instances are immutable and safe for use by multiple threads.
+ */
+public final class KeywordSet {
+
+  /** Flag: ASCII letters match regardless of case. */
+  public static final int CASE_INSENSITIVE_ASCII = 1;
+
+  /**
+   * Flag: of the keywords occurring at the leftmost position, choose the
+   * longest rather than the first listed.
+   */
+  public static final int LONGEST_MATCH = 2;
+
+  private final AhoCorasick automaton;
+  private final int size;
+  private final int flags;
+
+  private KeywordSet(AhoCorasick automaton, int size, int flags) {
+    this.automaton = automaton;
+    this.size = size;
+    this.flags = flags;
+  }
+
+  /**
+   * Compiles a set of keywords, matched exactly.
+   *
+   * @param keywords the keywords, in order of preference
+   * @throws IllegalArgumentException if a keyword is empty
+   */
+  public static KeywordSet compile(
+      Collection<? extends CharSequence> keywords) {
+    return compile(keywords, 0);
+  }
+
+  /**
+   * Compiles a set of keywords with the given flags.  A keyword listed
+   * more than once (or, with {@link #CASE_INSENSITIVE_ASCII}, in more than
+   * one case) counts as listed where it first appears.
+   *
+   * @param keywords the keywords, in order of preference
+   * @param flags {@link #CASE_INSENSITIVE_ASCII} and {@link #LONGEST_MATCH}
+   * @throws IllegalArgumentException if a keyword is empty or an unknown
+   *   flag is given
+   */
+  public static KeywordSet compile(
+      Collection<? extends CharSequence> keywords, int flags) {
+    if ((flags & ~(CASE_INSENSITIVE_ASCII | LONGEST_MATCH)) != 0) {
+      throw new IllegalArgumentException(
+          "Flags should only be a combination " +
+          "of CASE_INSENSITIVE_ASCII and LONGEST_MATCH");
+    }
+    int[][] runes = new int[keywords.size()][];
+    int n = 0;
+    for (CharSequence s : keywords) {
+      if (s.length() == 0) {
+        throw new IllegalArgumentException("empty keyword at index " + n);
+      }
+      runes[n++] = codePoints(s);
+    }
+    int fold = (flags & CASE_INSENSITIVE_ASCII) != 0
+        ? AhoCorasick.FOLD_ASCII
+        : AhoCorasick.FOLD_NONE;
+    return new KeywordSet(AhoCorasick.build(runes, fold), n, flags);
+  }
+
+  // codePoints() returns the code points of |s|.
+  private static int[] codePoints(CharSequence s) {
+    int n = Character.codePointCount(s, 0, s.length());
+    int[] runes = new int[n];
+    for (int i = 0, j = 0; j < n; j++) {
+      int r = Character.codePointAt(s, i);
+      runes[j] = r;
+      i += Character.charCount(r);
+    }
+    return runes;
+  }
+
+  /** Returns the number of keywords listed, duplicates included. */
+  public int size() {
+    return size;
+  }
+
+  /** Returns the flags the set was compiled with. */
+  public int flags() {
+    return flags;
+  }
+
+  /** Reports whether {@code s} is one of the keywords. */
+  public boolean contains(CharSequence s) {
+    return indexOf(s) >= 0;
+  }
+
+  /**
+   * Returns the index of the first keyword equal to {@code s}, or -1 if
+   * there is none.
+   */
+  public int indexOf(CharSequence s) {
+    int[] result = new int[3];
+    if (!automaton.match(MachineInput.fromUTF16(s), 0, RE2.ANCHOR_BOTH,
+                         false, false, result)) {
+      return -1;
+    }
+    return result[2];
+  }
+
+  /** Returns a matcher that finds the keywords in {@code input}. */
+  public KeywordMatcher matcher(CharSequence input) {
+    return new KeywordMatcher(this, input);
+  }
+
+  /**
+   * Returns a matcher that finds the keywords in {@code input}, which is
+   * UTF-8 encoded.  Offsets are then byte offsets.
+   */
+  public KeywordMatcher matcherUTF8(byte[] input) {
+    return new KeywordMatcher(this, input);
+  }
+
+  // find() finds the first keyword in |in| at or after |pos| and stores
+  // its start, end and index in |result|.
+  boolean find(MachineInput in, int pos, int[] result) {
+    return automaton.match(in, pos, RE2.UNANCHORED,
+                           (flags & LONGEST_MATCH) != 0, false, result);
+  }
+
+  @Override
+  public String toString() {
+    return "KeywordSet{size=" + size + ", nodes=" + automaton.numNodes() +
+        "}";
+  }
+}
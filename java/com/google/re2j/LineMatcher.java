@@ -0,0 +1,249 @@
+// Copyright 2026 Google Inc. All Rights Reserved.
+
+package com.google.re2j;
+
+import java.io.UnsupportedEncodingException;
+
+/**
+ * A grep-like iterator over the lines of a text that contain a match of a
+ * {@code Pattern}.  Obtain one from {@link Pattern#lineMatcher(CharSequence)}
+ * or {@link Pattern#lineMatcher(byte[])}; for files, see
+ * {@link FileMatcher#findLine()}.
+ *
+ * <p>Lines are separated by {@code '\n'}, which is not part of any line; a
+ * final {@code '\n'} does not begin another line.  The pattern is matched
+ * against each line as if it were the whole text, so {@code ^}, {@code $},
+ * {@code \A} and {@code \z} match at the ends of lines.
+ *
+ * <p>When the pattern cannot match {@code '\n'} (the common case) a single
+ * search runs over the text, skipping lines without matches, and jumps to
+ * the next line after each match; otherwise each line is searched on its
+ * own.
+ *
+ * <p>Offsets are {@code char} indices for a {@code CharSequence} and byte
+ * indices for a {@code byte[]}.  Instances are not safe for use by
+ * multiple threads.
+ */
+public final class LineMatcher {
+
+  private final Pattern pattern;
+  private final RE2 re2;
+
+  // |re2| adapted to run over all the lines at once, or null if it can't be.
+  private final RE2 lineRE2;
+
+  // The input: exactly one of |chars| and |bytes| is non-null.
+  private final CharSequence chars;
+  private final byte[] bytes;
+  private final MachineInput in;
+  private final int length;
+
+  // Start of the next line to search.
+  private int next;
+
+  // The current line and the first match in it; lineEnd < 0 if none.
+  private int lineStart;
+  private int lineEnd = -1;
+  private int matchStart;
+  private int matchEnd;
+
+  // Line-number cache: the number of the line starting at |linePos|.
+  private int linePos;
+  private int lineNumber = 1;
+
+  LineMatcher(Pattern pattern, CharSequence input) {
+    this(pattern, input, null, MachineInput.fromUTF16(input), input.length());
+  }
+
+  LineMatcher(Pattern pattern, byte[] input) {
+    this(pattern, null, input, MachineInput.fromUTF8(input), input.length);
+  }
+
+  private LineMatcher(Pattern pattern, CharSequence chars, byte[] bytes,
+                      MachineInput in, int length) {
+    if (pattern == null) {
+      throw new NullPointerException("pattern is null");
+    }
+    this.pattern = pattern;
+    this.re2 = pattern.re2();
+    this.lineRE2 = re2.lineRE2();
+    this.chars = chars;
+    this.bytes = bytes;
+    this.in = in;
+    this.length = length;
+  }
+
+  /** Returns the {@code Pattern} associated with this {@code LineMatcher}. */
+  public Pattern pattern() {
+    return pattern;
+  }
+
+  /**
+   * Rewinds to the first line, discarding any line information.
+   *
+   * @return the {@code LineMatcher} itself, for chained method calls
+   */
+  public LineMatcher reset() {
+    next = 0;
+    lineEnd = -1;
+    return this;
+  }
+
+  /**
+   * Finds the next line that contains a match.
+   *
+   * @return true if it finds one
+   */
+  public boolean find() {
+    lineEnd = -1;
+    if (lineRE2 != null) {
+      if (next >= length) {
+        return false;
+      }
+      int[] cap = lineRE2.doExecute(in, next, RE2.UNANCHORED, 2);
+      // An empty match at the very end is in no line if the text ends
+      // with '\n'.
+      if (cap == null || cap[0] == length && charAt(length - 1) == '\n') {
+        next = length;
+        return false;
+      }
+      matchStart = cap[0];
+      matchEnd = cap[1];
+      lineStart = lastIndexOfNewline(matchStart, next) + 1;
+      lineEnd = indexOfNewline(matchStart);
+    } else {
+      int[] cap = null;
+      while (cap == null) {
+        if (next >= length) {
+          return false;
+        }
+        lineStart = next;
+        lineEnd = indexOfNewline(next);
+        next = lineEnd + 1;
+        MachineInput line = chars != null
+            ? MachineInput.fromUTF16(chars, lineStart, lineEnd)
+            : MachineInput.fromUTF8(bytes, lineStart, lineEnd);
+        cap = re2.doExecute(line, 0, RE2.UNANCHORED, 2);
+      }
+      matchStart = lineStart + cap[0];
+      matchEnd = lineStart + cap[1];
+    }
+    next = lineEnd + 1;
+    return true;
+  }
+
+  /**
+   * Returns the offset of the start of the current line.
+   *
+   * @throws IllegalStateException if there is no current line
+   */
+  public int lineStart() {
+    checkLine();
+    return lineStart;
+  }
+
+  /**
+   * Returns the offset of the end of the current line, which is that of its
+   * terminating {@code '\n'}, if any.
+   *
+   * @throws IllegalStateException if there is no current line
+   */
+  public int lineEnd() {
+    checkLine();
+    return lineEnd;
+  }
+
+  /**
+   * Returns the current line, without its {@code '\n'}.
+   *
+   * @throws IllegalStateException if there is no current line
+   */
+  public String line() {
+    checkLine();
+    if (chars != null) {
+      return chars.subSequence(lineStart, lineEnd).toString();
+    }
+    try {
+      return new String(bytes, lineStart, lineEnd - lineStart, "UTF-8");
+    } catch (UnsupportedEncodingException e) {
+      throw new IllegalStateException("can't happen");
+    }
+  }
+
+  /**
+   * Returns the 1-based number of the current line.  Line numbers are
+   * computed on demand by counting newlines from the last line number
+   * computed, so asking for them in increasing order costs one pass over
+   * the text in total.
+   *
+   * @throws IllegalStateException if there is no current line
+   */
+  public int lineNumber() {
+    checkLine();
+    if (lineStart < linePos) {
+      linePos = 0;
+      lineNumber = 1;
+    }
+    for (int i = linePos; i < lineStart; i = indexOfNewline(i) + 1) {
+      lineNumber++;
+    }
+    linePos = lineStart;
+    return lineNumber;
+  }
+
+  /**
+   * Returns the start offset of the first match in the current line.
+   *
+   * @throws IllegalStateException if there is no current line
+   */
+  public int start() {
+    checkLine();
+    return matchStart;
+  }
+
+  /**
+   * Returns the end offset of the first match in the current line.
+   *
+   * @throws IllegalStateException if there is no current line
+   */
+  public int end() {
+    checkLine();
+    return matchEnd;
+  }
+
+  private void checkLine() {
+    if (lineEnd < 0) {
+      throw new IllegalStateException("perhaps no match attempted");
+    }
+  }
+
+  private int charAt(int i) {
+    return chars != null ? chars.charAt(i) : bytes[i];
+  }
+
+  // indexOfNewline() returns the index of the first '\n' at or after |from|,
+  // or the length of the text if there is none.
+  private int indexOfNewline(int from) {
+    if (chars instanceof String) {
+      int i = ((String) chars).indexOf('\n', from);
+      return i < 0 ? length : i;
+    }
+    for (int i = from; i < length; i++) {
+      if (charAt(i) == '\n') {
+        return i;
+      }
+    }
+    return length;
+  }
+
+  // lastIndexOfNewline() returns the index of the last '\n' before |from|
+  // and at or after |limit|, or limit - 1 if there is none.
+  private int lastIndexOfNewline(int from, int limit) {
+    for (int i = from - 1; i >= limit; i--) {
+      if (charAt(i) == '\n') {
+        return i;
+      }
+    }
+    return limit - 1;
+  }
+}
@@ -7,77 +7,117 @@
 
 package com.google.re2j;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
+import java.util.BitSet;
 
 // A Machine matches an input string of Unicode characters against an
 // RE2 instance using a simple NFA.
 //
 // Called by RE2.doExecute.
+//
+// All per-thread state lives in primitive arrays: a logical thread is
+// an int id, its capture slots are the |ncap| ints starting at
+// |id * ncap| in |caps|, and its instruction is implied by the pc of the
+// queue entry that holds it.  Id 0 is never allocated; it names the
+// scratch capture slots used to seed new threads, and doubles as the
+// "no thread" value.
 class Machine {
 
-  // A logical thread in the NFA.
-  private static class Thread {
-    Thread(int n) {
-      this.cap = new int[n];
-    }
-    int[] cap;
-    Inst inst;
-  }
-
   // A queue is a 'sparse array' holding pending threads of execution.  See:
   // research.swtch.com/2008/03/using-uninitialized-memory-for-fun-and.html
+  //
+  // A RUNE_COUNT instruction may have an entry for each count reached by
+  // its threads, so those entries are tracked in a set of counts per pc
+  // rather than in |sparse|, and the dense arrays grow as needed.
   private static class Queue {
 
-    static class Entry {
-      int pc;
-      Thread thread;
-    }
-
-    final Entry[] dense; // may contain stale Entries in slots >= size
     final int[] sparse;  // may contain stale but in-bounds values.
-    int size;  // of prefix of |dense| that is logically populated
-
-    Queue(int n) {
+    int[] densePc; // may contain stale values in slots >= size
+    int[] denseThread;  // thread id for each pc; 0 => none
+    int[] denseCount;  // RUNE_COUNT entries: the count
+    int size;  // of prefix of |dense*| that is logically populated
+
+    // For each RUNE_COUNT pc, the counts seen since the last clear(), and
+    // the pcs whose sets must be cleared.  Null if there are none.
+    final BitSet[] counts;
+    int[] countPcs;
+    int numCountPcs;
+
+    Queue(int n, boolean counted) {
       this.sparse = new int[n];
-      this.dense = new Entry[n];
+      this.densePc = new int[n];
+      this.denseThread = new int[n];
+      this.denseCount = counted ? new int[n] : null;
+      this.counts = counted ? new BitSet[n] : null;
+      this.countPcs = counted ? new int[4] : null;
     }
 
     boolean contains(int pc) {
       int j = sparse[pc];  // (non-negative)
-      if (j >= size) {
-        return false;
-      }
-      Entry d = dense[j];
-      return d != null && d.pc == pc;
+      return j < size && densePc[j] == pc;
     }
 
     boolean isEmpty() { return size == 0; }
 
-    Entry add(int pc) {
+    // Adds an entry for |pc| (with no thread) and returns its index.
+    int add(int pc) {
+      if (size == densePc.length) {
+        grow();
+      }
       int j = size++;
       sparse[pc] = j;
-      Entry e = dense[j];
-      if (e == null) {  // recycle previous Entry if any
-        e = dense[j] = new Entry();
+      densePc[j] = pc;
+      denseThread[j] = 0;
+      return j;
+    }
+
+    // Records count |k| for the RUNE_COUNT instruction at |pc|.  Returns
+    // false if it was already recorded.
+    boolean markCount(int pc, int k) {
+      BitSet set = counts[pc];
+      if (set == null) {
+        set = counts[pc] = new BitSet();
       }
-      e.thread = null;
-      e.pc = pc;
-      return e;
-    }
-
-    // Frees all threads on the thread queue, returning them to the free pool.
-    void clear(List<Thread> freePool) {
-      for(int i = 0; i < size; ++i) {
-        Entry entry = dense[i];
-        if (entry != null && entry.thread != null) {
-          // free(entry.thread)
-          freePool.add(entry.thread);
+      if (set.isEmpty()) {
+        if (numCountPcs == countPcs.length) {
+          countPcs = Arrays.copyOf(countPcs, 2 * numCountPcs);
         }
-        // (don't release dense[i] to GC; recycle it.)
+        countPcs[numCountPcs++] = pc;
+      } else if (set.get(k)) {
+        return false;
+      }
+      set.set(k);
+      return true;
+    }
+
+    // Adds an entry for count |k| of the RUNE_COUNT instruction at |pc|
+    // (with no thread) and returns its index.
+    int addCount(int pc, int k) {
+      if (size == densePc.length) {
+        grow();
       }
+      int j = size++;
+      densePc[j] = pc;
+      denseThread[j] = 0;
+      denseCount[j] = k;
+      return j;
+    }
+
+    private void grow() {
+      int n = 2 * densePc.length;
+      densePc = Arrays.copyOf(densePc, n);
+      denseThread = Arrays.copyOf(denseThread, n);
+      if (denseCount != null) {
+        denseCount = Arrays.copyOf(denseCount, n);
+      }
+    }
+
+    void clear() {
       size = 0;
+      for (int i = 0; i < numCountPcs; i++) {
+        counts[countPcs[i]].clear();
+      }
+      numCountPcs = 0;
     }
 
     @Override public String toString() {
@@ -87,7 +127,7 @@ class Machine {
         if (i != 0) {
           out.append(", ");
         }
-        out.append(dense[i].pc);
+        out.append(densePc[i]);
       }
       out.append('}');
       return out.toString();
@@ -103,9 +143,27 @@ class Machine {
   // Two queues for runq, nextq.
   private final Queue q0, q1;
 
-  // pool of available threads
-  // Really a stack:
-  private List<Thread> pool = new ArrayList<Thread>();
+  // Number of capture slots tracked per thread.
+  private int ncap;
+
+  // Maps the slot of each CAPTURE instruction to the slot that tracks it
+  // in a thread, or -1 if the caller did not ask for it; CAPTURE
+  // instructions for untracked slots are treated as NOPs.
+  private int[] slotOf;
+
+  // The identity map used when the first |prefixNcap| slots are tracked.
+  private final int[] prefixSlots;
+  private int prefixNcap = -1;
+
+  // Capture slots of all threads, |ncap| per thread id; see class comment.
+  private int[] caps = Utils.EMPTY_INTS;
+
+  // Number of thread ids handed out so far in this match (including 0).
+  private int numThreads = 1;
+
+  // Stack of free thread ids.
+  private int[] pool = Utils.EMPTY_INTS;
+  private int poolSize;
 
   // Whether a match was found.
   private boolean matched;
@@ -113,23 +171,81 @@ class Machine {
   // Capture information for the match.
   private int[] matchcap;
 
+  // Run queues of an incremental match; see startStream().
+  private Queue streamRunq, streamNextq;
+
+  // Whether match() counts its work for PatternMetrics, and the counts of
+  // the last such match: thread steps, threads started, input units
+  // stepped over and prefix searches.
+  boolean counting;
+  long steps, threads, scanned, prefixSkips;
+
+  // When profiling for PatternProfiler, the number of times each pc was
+  // added to a queue, and the most threads run in one step; else null.
+  int[] visits;
+  int maxQueue;
+
   /**
    * Constructs a matching Machine for the specified {@code RE2}.
    */
   Machine(RE2 re2) {
-    this.prog = re2.prog;
+    this(re2, re2.prog);
+  }
+
+  /**
+   * Constructs a Machine that runs {@code prog}, a program equivalent to
+   * that of the specified {@code RE2}.
+   */
+  Machine(RE2 re2, Prog prog) {
+    this.prog = prog;
     this.re2 = re2;
-    this.q0 = new Queue(prog.numInst());
-    this.q1 = new Queue(prog.numInst());
+    boolean counted = prog.hasCount();
+    this.q0 = new Queue(prog.numInst(), counted);
+    this.q1 = new Queue(prog.numInst(), counted);
     this.matchcap = new int[prog.numCap < 2 ? 2 : prog.numCap];
+    this.ncap = matchcap.length;
+    this.prefixSlots = new int[prog.numCap];
   }
 
-  // init() reinitializes an existing Machine for re-use on a new input.
+  // estimateBytes() returns roughly how many bytes of arrays a Machine
+  // running |prog| and tracking |ncap| capture slots holds once it has
+  // run its largest match.  Each queue holds at most one entry per pc,
+  // so at most twice that many threads are live at once.  The count sets
+  // of RUNE_COUNT instructions, which grow with the counts reached, are
+  // not included.
+  static long estimateBytes(Prog prog, int ncap) {
+    long n = prog.numInst();
+    long numCap = Math.max(prog.numCap, 2);
+    long queue = 3 * 4 * n + (prog.hasCount() ? 4 * n + 4 * n : 0);
+    long threads = 2 * n + 1;
+    return 2 * queue           // q0, q1
+        + 4 * threads * ncap   // caps
+        + 4 * threads          // pool
+        + 4 * numCap * 2;      // matchcap, prefixSlots
+  }
+
+  // init() reinitializes an existing Machine for re-use on a new input,
+  // tracking the first |ncap| capture slots.
   void init(int ncap) {
-    for (Thread t : pool) {
-      t.cap = new int[ncap];
+    if (ncap != prefixNcap) {
+      for (int i = 0; i < prefixSlots.length; i++) {
+        prefixSlots[i] = i < ncap ? i : -1;
+      }
+      prefixNcap = ncap;
+    }
+    init(ncap, prefixSlots);
+  }
+
+  // init() reinitializes an existing Machine for re-use on a new input,
+  // tracking only the capture slots for which |slotOf| is non-negative.
+  // |ncap| is the number of tracked slots; slots 0 and 1 (the overall
+  // match) must map to themselves.
+  void init(int ncap, int[] slotOf) {
+    this.ncap = ncap;
+    this.slotOf = slotOf;
+    if (matchcap.length != ncap) {
+      this.matchcap = new int[ncap];
     }
-    this.matchcap = new int[ncap];
   }
 
   int[] submatches() {
@@ -141,20 +257,37 @@ class Machine {
     return cap;
   }
 
-  // alloc() allocates a new thread with the given instruction.
-  // It uses the free pool if possible.
-  private Thread alloc(Inst inst) {
-    int n = pool.size();
-    Thread t = n > 0
-        ? pool.remove(n - 1)
-        : new Thread(matchcap.length);
-    t.inst = inst;
+  // copySubmatches() copies the submatch information into |dst| starting at
+  // |off|, for callers that match many inputs without allocating.
+  void copySubmatches(int[] dst, int off) {
+    System.arraycopy(matchcap, 0, dst, off, matchcap.length);
+  }
+
+  // alloc() allocates a new thread id, using the free pool if possible.
+  private int alloc() {
+    if (poolSize > 0) {
+      if (counting) {
+        threads++;
+      }
+      return pool[--poolSize];
+    }
+    int t = numThreads++;
+    if (counting) {
+      threads++;
+    }
+    int need = numThreads * ncap;
+    if (need > caps.length) {
+      caps = Arrays.copyOf(caps, Math.max(need, 2 * caps.length));
+    }
     return t;
   }
 
-  // free() returns t to the free pool.
-  private void free(Thread t) {
-    pool.add(t);
+  // free() returns thread |t| to the free pool.
+  private void free(int t) {
+    if (poolSize == pool.length) {
+      pool = Arrays.copyOf(pool, Math.max(16, 2 * pool.length));
+    }
+    pool[poolSize++] = t;
   }
 
   // match() runs the machine over the input |in| starting at |pos| with the
@@ -162,6 +295,13 @@ class Machine {
   // It reports whether a match was found.
   // If so, matchcap holds the submatch information.
   boolean match(MachineInput in, int pos, int anchor) {
+    return match(in, pos, anchor, Integer.MAX_VALUE);
+  }
+
+  // match() is like the above, but starts threads only at positions before
+  // |limit|, and stops once none of them is alive.  It finds the same
+  // match if that starts before |limit|, and else none.
+  boolean match(MachineInput in, int pos, int anchor, int limit) {
     int startCond = re2.cond;
     if (startCond == Utils.EMPTY_ALL) {  // impossible
       return false;
@@ -170,9 +310,22 @@ class Machine {
         pos != 0){
       return false;
     }
+    if (limit > in.endPos()) {
+      limit = in.endPos() + 1;  // as MachineInput.index() expects
+    }
     matched = false;
     Arrays.fill(matchcap, -1);
+    numThreads = 1;
+    poolSize = 0;
+    if (caps.length < ncap) {
+      caps = new int[ncap];
+    }
     Queue runq = q0, nextq = q1;
+    int startPos = pos;
+    int skipped = 0;
+    if (counting) {
+      steps = threads = prefixSkips = 0;
+    }
     int r = in.step(pos);
     int rune = r >> 3;
     int width = r & 7;
@@ -200,14 +353,22 @@ class Machine {
           // Have match; finished exploring alternatives.
           break;
         }
+        if (pos >= limit) {
+          // No thread left that started before the limit.
+          break;
+        }
         if (!re2.prefix.isEmpty() &&
             rune1 != re2.prefixRune &&
             in.canCheckPrefix()) {
           // Match requires literal prefix; fast search for it.
-          int advance = in.index(re2, pos);
+          int advance = in.index(re2, pos, limit);
+          if (counting) {
+            prefixSkips++;
+          }
           if (advance < 0) {
             break;
           }
+          skipped += advance;
           pos += advance;
           r = in.step(pos);
           rune = r >> 3;
@@ -217,20 +378,21 @@ class Machine {
           width1 = r & 7;
         }
       }
-      if (!matched && (pos == 0 || anchor == RE2.UNANCHORED)) {
+      if (!matched && pos < limit && (pos == 0 || anchor == RE2.UNANCHORED)) {
         // If we are anchoring at begin then only add threads that begin
         // at |pos| = 0.
-        if (matchcap.length > 0) {
+        if (ncap > 0) {
           matchcap[0] = pos;
+          System.arraycopy(matchcap, 0, caps, 0, ncap);
         }
-        add(runq, prog.start, pos, matchcap, flag, null);
+        add(runq, prog.start, pos, 0, flag, 0);
       }
       flag = Utils.emptyOpContext(rune, rune1);
       step(runq, nextq, pos, pos + width, rune, flag, anchor, pos == in.endPos());
       if (width == 0) {  // EOF
         break;
       }
-      if (matchcap.length == 0 && matched) {
+      if (ncap == 0 && matched) {
         // Found a match and not paying attention
         // to where it is, so any match will do.
         break;
@@ -247,10 +409,99 @@ class Machine {
       runq = nextq;
       nextq = tmpq;
     }
-    nextq.clear(pool);
+    nextq.clear();
+    scanned = pos - startPos - skipped;
     return matched;
   }
 
+  // startStream() begins an incremental unanchored match, to which the
+  // caller feeds the input one rune at a time with streamStep().
+  // Used by StreamSearch, whose input arrives in pieces.
+  void startStream() {
+    matched = false;
+    Arrays.fill(matchcap, -1);
+    numThreads = 1;
+    poolSize = 0;
+    if (caps.length < ncap) {
+      caps = new int[ncap];
+    }
+    streamRunq = q0;
+    streamNextq = q1;
+    streamRunq.clear();
+    streamNextq.clear();
+  }
+
+  // streamStep() runs one iteration of match() on the rune |c| (-1 for
+  // EOF) of width |width| at |pos|.  |flag| gives the EMPTY_* flags
+  // before |c|, and |nextFlag| those after it.  It reports whether the
+  // match is over: matched() then tells whether it succeeded, and
+  // submatches() where.  A finished match reads no more input.
+  boolean streamStep(int pos, int c, int width, int flag, int nextFlag) {
+    Queue runq = streamRunq;
+    if (runq.isEmpty()) {
+      if (matched) {
+        return true;
+      }
+      if ((re2.cond & Utils.EMPTY_BEGIN_TEXT) != 0 &&
+          (flag & Utils.EMPTY_BEGIN_TEXT) == 0) {
+        // Anchored match, past beginning of text.
+        return true;
+      }
+    }
+    if (!matched) {
+      matchcap[0] = pos;
+      System.arraycopy(matchcap, 0, caps, 0, ncap);
+      add(runq, prog.start, pos, 0, flag, 0);
+    }
+    step(runq, streamNextq, pos, pos + width, c, nextFlag, RE2.UNANCHORED,
+         false);
+    streamRunq = streamNextq;
+    streamNextq = runq;
+    return width == 0 || (matched && streamRunq.isEmpty());
+  }
+
+  // matched() reports whether the current match has found a match.
+  boolean matched() {
+    return matched;
+  }
+
+  // streamMinStart() returns the least position at or before |pos| that
+  // the incremental match may still report as a capture.
+  int streamMinStart(int pos) {
+    if (matched && matchcap[0] < pos) {
+      pos = matchcap[0];
+    }
+    Queue runq = streamRunq;
+    for (int j = 0; j < runq.size; ++j) {
+      int t = runq.denseThread[j];
+      if (t != 0 && caps[t * ncap] < pos) {
+        pos = caps[t * ncap];
+      }
+    }
+    return pos;
+  }
+
+  // streamRebase() subtracts |delta| from every position held by the
+  // incremental match, none of which may be less than |delta|.
+  void streamRebase(int delta) {
+    for (int k = 0; k < ncap; k++) {
+      if (matchcap[k] >= 0) {
+        matchcap[k] -= delta;
+      }
+    }
+    Queue runq = streamRunq;
+    for (int j = 0; j < runq.size; ++j) {
+      int t = runq.denseThread[j];
+      if (t != 0) {
+        for (int k = t * ncap; k < (t + 1) * ncap; k++) {
+          if (caps[k] >= 0) {
+            caps[k] -= delta;
+          }
+        }
+      }
+    }
+  }
+
   // step() executes one step of the machine, running each of the threads
   // on |runq| and appending new threads to |nextq|.
   // The step processes the rune |c| (which may be -1 for EOF),
@@ -260,22 +511,23 @@ class Machine {
   // the input string.
   private void step(Queue runq, Queue nextq, int pos, int nextPos, int c,
             int nextCond, int anchor, boolean atEnd) {
+    if (counting) {
+      steps += runq.size;
+    }
+    if (visits != null && runq.size > maxQueue) {
+      maxQueue = runq.size;
+    }
     boolean longest = re2.longest;
     for (int j = 0; j < runq.size; ++j) {
-      Queue.Entry entry = runq.dense[j];
-      if (entry == null) {
-        continue;
-      }
-      Thread t = entry.thread;
-      if (t == null) {
+      int t = runq.denseThread[j];
+      if (t == 0) {
         continue;
       }
-      if (longest && matched && t.cap.length > 0 && matchcap[0] < t.cap[0]) {
-        // free(t)
-        pool.add(t);
+      if (longest && matched && ncap > 0 && matchcap[0] < caps[t * ncap]) {
+        free(t);
         continue;
       }
-      Inst i = t.inst;
+      Inst i = prog.getInst(runq.densePc[j]);
       boolean add = false;
       switch (i.op) {
         case MATCH:
@@ -284,20 +536,19 @@ class Machine {
             // expectations aren't met.
             break;
           }
-          if (t.cap.length > 0 && (!longest || !matched || matchcap[1] < pos)) {
-            t.cap[1] = pos;
-            System.arraycopy(t.cap, 0, matchcap, 0, t.cap.length);
+          if (ncap > 0 && (!longest || !matched || matchcap[1] < pos)) {
+            caps[t * ncap + 1] = pos;
+            System.arraycopy(caps, t * ncap, matchcap, 0, ncap);
           }
           if (!longest) {
             // First-match mode: cut off all lower-priority threads.
             for (int k = j + 1; k < runq.size; ++k) {
-              Queue.Entry d = runq.dense[k];
-              if (d.thread != null) {
-                // free(d.thread)
-                pool.add(d.thread);
+              int d = runq.denseThread[k];
+              if (d != 0) {
+                free(d);
               }
             }
-            runq.size = 0;
+            runq.clear();
           }
           matched = true;
           break;
@@ -318,34 +569,52 @@ class Machine {
           add = c != '\n';
           break;
 
+        case RUNE_COUNT:
+          if (i.matchRune(c)) {
+            // (Past the minimum, an unbounded count needn't go higher.)
+            int k = runq.denseCount[j];
+            if (i.max >= 0 || k < i.arg) {
+              k++;
+            }
+            t = addCount(nextq, runq.densePc[j], i, k, nextPos, t, nextCond,
+                         t);
+          }
+          break;
+
         default:
           throw new IllegalStateException("bad inst");
       }
       if (add) {
-        t = add(nextq, i.out, nextPos, t.cap, nextCond, t);
+        t = add(nextq, i.out, nextPos, t, nextCond, t);
       }
-      if (t != null) {
-        // free(t)
-        pool.add(t);
+      if (t != 0) {
+        free(t);
       }
     }
-    runq.size = 0;
+    runq.clear();
   }
 
   // add() adds an entry to |q| for |pc|, unless the |q| already has such an
   // entry.  It also recursively adds an entry for all instructions reachable
   // from |pc| by following empty-width conditions satisfied by |cond|.  |pos|
   // gives the current position in the input.  |cond| is a bitmask of EMPTY_*
-  // flags.
-  private Thread add(Queue q, int pc, int pos, int[] cap, int cond, Thread t) {
+  // flags.  The new entry's captures are copied from thread |cap|; |t| is a
+  // thread that may be consumed for it, or 0.  Returns the unconsumed thread.
+  private int add(Queue q, int pc, int pos, int cap, int cond, int t) {
     if (pc == 0) {
       return t;
     }
+    Inst inst = prog.getInst(pc);
+    if (inst.op == Inst.Op.RUNE_COUNT) {
+      return addCount(q, pc, inst, 0, pos, cap, cond, t);
+    }
     if (q.contains(pc)) {
       return t;
     }
-    Queue.Entry d = q.add(pc);
-    Inst inst = prog.getInst(pc);
+    int d = q.add(pc);
+    if (visits != null) {
+      visits[pc]++;
+    }
     switch (inst.op()) {
       default:
         throw new IllegalStateException("unhandled");
@@ -370,11 +639,14 @@ class Machine {
         break;
 
       case CAPTURE:
-        if (inst.arg < cap.length) {
-          int opos = cap[inst.arg];
-          cap[inst.arg] = pos;
-          add(q, inst.out, pos, cap, cond, null);
-          cap[inst.arg] = opos;
+        int k = inst.arg < slotOf.length ? slotOf[inst.arg] : -1;
+        if (k >= 0) {
+          // (re-read |caps|: the recursive add may grow it.)
+          int slot = cap * ncap + k;
+          int opos = caps[slot];
+          caps[slot] = pos;
+          add(q, inst.out, pos, cap, cond, 0);
+          caps[slot] = opos;
         } else {
           t = add(q, inst.out, pos, cap, cond, t);
         }
@@ -385,19 +657,51 @@ class Machine {
       case RUNE1:
       case RUNE_ANY:
       case RUNE_ANY_NOT_NL:
-        if (t == null) {
-          t = alloc(inst);
-        } else {
-          t.inst = inst;
+        if (t == 0) {
+          t = alloc();
         }
-        if (cap.length > 0 && t.cap != cap) {
-          System.arraycopy(cap, 0, t.cap, 0, cap.length);
+        if (ncap > 0 && t != cap) {
+          System.arraycopy(caps, cap * ncap, caps, t * ncap, ncap);
         }
-        d.thread = t;
-        t = null;
+        q.denseThread[d] = t;
+        t = 0;
         break;
     }
     return t;
   }
 
+  // addCount() is add() for count |k| of the RUNE_COUNT instruction |inst|
+  // at |pc|.  The entry holds a thread that consumes another repetition,
+  // unless the count is at its maximum; once the count reaches the
+  // minimum, the instructions reachable from the exit are added too, after
+  // the entry unless the repetition is non-greedy.
+  private int addCount(Queue q, int pc, Inst inst, int k, int pos, int cap,
+                       int cond, int t) {
+    if (!q.markCount(pc, k)) {
+      return t;
+    }
+    if (visits != null) {
+      visits[pc]++;
+    }
+    boolean exit = k >= inst.arg;
+    if (exit && inst.nonGreedy) {
+      t = add(q, inst.out, pos, cap, cond, t);
+    }
+    if (inst.max < 0 || k < inst.max) {
+      int d = q.addCount(pc, k);
+      if (t == 0) {
+        t = alloc();
+      }
+      if (ncap > 0 && t != cap) {
+        System.arraycopy(caps, cap * ncap, caps, t * ncap, ncap);
+      }
+      q.denseThread[d] = t;
+      t = 0;
+    }
+    if (exit && !inst.nonGreedy) {
+      t = add(q, inst.out, pos, cap, cond, t);
+    }
+    return t;
+  }
+
 }
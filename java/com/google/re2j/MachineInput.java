@@ -7,6 +7,9 @@
 
 package com.google.re2j;
 
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+
 /**
  * MachineInput abstracts different representations of the input text
  * supplied to the Machine.  It provides one-character lookahead.
@@ -23,12 +26,63 @@ abstract class MachineInput {
     return new UTF8Input(b, start, end);
   }
 
+  // Returns an input over the bytes of |b| from its position to its limit,
+  // restricted to [start:end) relative to its position.  Heap buffers are
+  // read through their backing array; others (e.g. direct buffers) through
+  // absolute get().  Neither the position nor the limit of |b| is changed.
+  static MachineInput fromUTF8(ByteBuffer b, int start, int end) {
+    int base = b.position();
+    if (end > b.remaining()) {
+      throw new IndexOutOfBoundsException(
+          "end is greater than length: " + end + " > " + b.remaining());
+    }
+    if (b.hasArray()) {
+      int offset = b.arrayOffset() + base;
+      return new UTF8Input(b.array(), offset + start, offset + end);
+    }
+    return new ByteBufferInput(b, base + start, base + end);
+  }
+
   static MachineInput fromUTF16(CharSequence s) {
-    return new UTF16Input(s, 0, s.length());
+    return fromUTF16(s, 0, s.length());
   }
 
+  // Returns an input over s[start:end] specialized for the concrete type
+  // of |s|.  Arbitrary CharSequences are read through a copied window.
   static MachineInput fromUTF16(CharSequence s, int start, int end) {
-    return new UTF16Input(s, start, end);
+    if (s instanceof String) {
+      return new StringInput((String) s, start, end);
+    }
+    if (s instanceof CharBuffer) {
+      CharBuffer b = (CharBuffer) s;
+      if (b.hasArray()) {
+        return new CharArrayInput(b.array(), b.arrayOffset() + b.position(),
+            b.remaining(), start, end);
+      }
+      return new CharBufferInput(b, start, end);
+    }
+    return new CharSequenceInput(s, start, end);
+  }
+
+  // Returns an input over all of |s| like fromUTF16(s), but re-uses |last|,
+  // a previous result of this method that is no longer in use, if it can.
+  // Used to match many inputs in a row without allocating.
+  static MachineInput fromUTF16(CharSequence s, MachineInput last) {
+    if (s instanceof String && last instanceof StringInput) {
+      StringInput in = (StringInput) last;
+      in.str = (String) s;
+      in.start = 0;
+      in.end = s.length();
+      return in;
+    }
+    return fromUTF16(s);
+  }
+
+  // Returns an input over the |len| chars of |a| starting at |offset|,
+  // restricted to [start:end) relative to |offset|.
+  static MachineInput fromUTF16(char[] a, int offset, int len,
+                                int start, int end) {
+    return new CharArrayInput(a, offset, len, start, end);
   }
 
   //// Interface
@@ -45,8 +99,9 @@ abstract class MachineInput {
   abstract boolean canCheckPrefix();
 
   // Returns the index relative to |pos| at which |re2.prefix| is found
-  // in this input stream, or a negative value if not found.
-  abstract int index(RE2 re2, int pos);
+  // in this input stream, starting before position |before|, or a negative
+  // value if not found.  |before| is at most endPos() + 1.
+  abstract int index(RE2 re2, int pos, int before);
 
   // Returns a bitmask of EMPTY_* flags.
   abstract int context(int pos);
@@ -130,9 +185,11 @@ abstract class MachineInput {
     }
 
     @Override
-    int index(RE2 re2, int pos) {
+    int index(RE2 re2, int pos, int before) {
       pos += start;
-      int i = Utils.indexOf(b, re2.prefixUTF8, pos);
+      int i = Utils.indexOf(b, re2.prefixUTF8, pos,
+                            Math.min(end, start + before - 1 +
+                                     re2.prefixUTF8.length));
       return i < 0 ? i : i - pos;
     }
 
@@ -142,7 +199,7 @@ abstract class MachineInput {
       int r1 = -1;
       if (pos > this.start && pos <= this.end) {
         int start = pos - 1;
-        r1 = b[start--];
+        r1 = b[start--] & 0xff;  // zero extend
         if (r1 >= 0x80) {  // decode UTF-8
           // Find start, up to 4 bytes earlier.
           int lim = pos - 4;
@@ -155,26 +212,275 @@ abstract class MachineInput {
           if (start < this.start) {
             start = this.start;
           }
-          r1 = step(start) >> 3;
+          r1 = step(start - this.start) >> 3;
         }
       }
       int r2 = pos < this.end
-          ? (step(pos) >> 3)
+          ? (step(pos - this.start) >> 3)
           : -1;
       return Utils.emptyOpContext(r1, r2);
     }
 
     @Override
-    int endPos() { return end; }
+    int endPos() { return end - start; }
   }
 
-  // |pos| and |width| are in Java "char" units.
-  private static class UTF16Input extends MachineInput {
-    final CharSequence str;
+  // An implementation of MachineInput for UTF-8 ByteBuffers without an
+  // accessible array (e.g. direct buffers).  |pos| and |width| are byte
+  // indices relative to |start|, which like |end| is an absolute index in
+  // the buffer.
+  private static final class ByteBufferInput extends MachineInput {
+
+    final ByteBuffer b;
     final int start;
     final int end;
 
-    public UTF16Input(CharSequence str, int start, int end) {
+    ByteBufferInput(ByteBuffer b, int start, int end) {
+      this.b = b;
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    int step(int i) {
+      i += start;
+      if (i >= end) {
+        return EOF;
+      }
+      // See UTF8Input.step.
+      int x = b.get(i++) & 0xff;  // zero extend
+      if ((x & 0x80) == 0) {
+        return x << 3 | 1;
+      } else if ((x & 0xE0) == 0xC0) {  // 110xxxxx
+        x = x & 0x1F;
+        if (i >= end) {
+          return EOF;
+        }
+        x = x << 6 | b.get(i) & 0x3F;
+        return x << 3 | 2;
+      } else if ((x & 0xF0) == 0xE0) {  // 1110xxxx
+        x = x & 0x0F;
+        if (i + 1 >= end) {
+          return EOF;
+        }
+        x = x << 6 | b.get(i) & 0x3F;
+        x = x << 6 | b.get(i + 1) & 0x3F;
+        return x << 3 | 3;
+      } else {  // 11110xxx
+        x = x & 0x07;
+        if (i + 2 >= end) {
+          return EOF;
+        }
+        x = x << 6 | b.get(i) & 0x3F;
+        x = x << 6 | b.get(i + 1) & 0x3F;
+        x = x << 6 | b.get(i + 2) & 0x3F;
+        return x << 3 | 4;
+      }
+    }
+
+    @Override
+    boolean canCheckPrefix() {
+      return true;
+    }
+
+    @Override
+    int index(RE2 re2, int pos, int before) {
+      pos += start;
+      byte[] prefix = re2.prefixUTF8;
+      int n = prefix.length;
+      if (n == 0) {
+        return 0;
+      }
+      byte first = prefix[0];
+      for (int i = pos, max = Math.min(end - n, start + before - 1); i <= max;
+           i++) {
+        if (b.get(i) != first) {
+          continue;
+        }
+        int k = 1;
+        while (k < n && b.get(i + k) == prefix[k]) {
+          k++;
+        }
+        if (k == n) {
+          return i - pos;
+        }
+      }
+      return -1;
+    }
+
+    @Override
+    int context(int pos) {
+      pos += this.start;
+      int r1 = -1;
+      if (pos > this.start && pos <= this.end) {
+        int start = pos - 1;
+        r1 = b.get(start--) & 0xff;
+        if (r1 >= 0x80) {  // decode UTF-8
+          // Find start, up to 4 bytes earlier.
+          int lim = pos - 4;
+          if (lim < this.start) {
+            lim = this.start;
+          }
+          while (start >= lim && (b.get(start) & 0xC0) == 0x80) {  // 10xxxxxx
+            start--;
+          }
+          if (start < this.start) {
+            start = this.start;
+          }
+          r1 = step(start - this.start) >> 3;
+        }
+      }
+      int r2 = pos < this.end
+          ? (step(pos - this.start) >> 3)
+          : -1;
+      return Utils.emptyOpContext(r1, r2);
+    }
+
+    @Override
+    int endPos() { return end - start; }
+  }
+
+  // An implementation of MachineInput for UTF-8 text spread over several
+  // ByteBuffers (e.g. the mappings of a file too large for one buffer).
+  // Byte |a| of the text, a long, is byte |a & mask| of |chunks[a >>
+  // shift]|, where every chunk but the last has exactly |1 << shift| bytes.
+  // |pos| and |width| are byte indices relative to |origin|; the machine
+  // sees [origin:end) of the text, but may look behind |origin| for
+  // context.  If |end| is before the end of the text, |hitEnd| records
+  // whether the result of a match may have depended on the bytes beyond
+  // it.
+  static final class ChunkedUTF8Input extends MachineInput {
+
+    final ByteBuffer[] chunks;
+    final int shift;
+    final long mask;
+    final long origin;
+    final long end;
+    final long size;  // of the whole text
+    boolean hitEnd;
+
+    ChunkedUTF8Input(ByteBuffer[] chunks, int shift, long origin, long end,
+                     long size) {
+      this.chunks = chunks;
+      this.shift = shift;
+      this.mask = (1L << shift) - 1;
+      this.origin = origin;
+      this.end = end;
+      this.size = size;
+    }
+
+    private int get(long a) {
+      return chunks[(int) (a >>> shift)].get((int) (a & mask)) & 0xff;
+    }
+
+    @Override
+    int step(int pos) {
+      long i = origin + pos;
+      if (i >= end) {
+        if (end < size) {
+          hitEnd = true;
+        }
+        return EOF;
+      }
+      // See UTF8Input.step.
+      int x = get(i++);
+      int n;
+      if ((x & 0x80) == 0) {
+        return x << 3 | 1;
+      } else if ((x & 0xE0) == 0xC0) {  // 110xxxxx
+        x = x & 0x1F;
+        n = 2;
+      } else if ((x & 0xF0) == 0xE0) {  // 1110xxxx
+        x = x & 0x0F;
+        n = 3;
+      } else {  // 11110xxx
+        x = x & 0x07;
+        n = 4;
+      }
+      if (i + n - 1 > end) {
+        if (end < size) {
+          hitEnd = true;
+        }
+        return EOF;
+      }
+      for (int k = 1; k < n; k++) {
+        x = x << 6 | get(i++) & 0x3F;
+      }
+      return x << 3 | n;
+    }
+
+    @Override
+    boolean canCheckPrefix() {
+      return true;
+    }
+
+    @Override
+    int index(RE2 re2, int pos, int before) {
+      byte[] prefix = re2.prefixUTF8;
+      int n = prefix.length;
+      long from = origin + pos;
+      long max = Math.min(end - n, origin + before - 1);
+      for (long i = from; i <= max; i++) {
+        if (get(i) != (prefix[0] & 0xff)) {
+          continue;
+        }
+        int k = 1;
+        while (k < n && get(i + k) == (prefix[k] & 0xff)) {
+          k++;
+        }
+        if (k == n) {
+          return (int) (i - from);
+        }
+      }
+      if (max == end - n && end < size) {
+        hitEnd = true;  // an occurrence may straddle |end|
+      }
+      return -1;
+    }
+
+    @Override
+    int context(int pos) {
+      long i = origin + pos;
+      int r1 = -1;
+      if (i > 0) {
+        // Find the start of the previous rune, up to 4 bytes earlier.
+        long start = i - 1;
+        if (get(start) >= 0x80) {
+          long lim = Math.max(0, i - 4);
+          while (start > lim && (get(start) & 0xC0) == 0x80) {  // 10xxxxxx
+            start--;
+          }
+        }
+        // Decode it whole, even where it runs past |end|.
+        ChunkedUTF8Input behind =
+            new ChunkedUTF8Input(chunks, shift, start, size, size);
+        r1 = behind.step(0) >> 3;
+      }
+      int r2 = step(pos) >> 3;
+      return Utils.emptyOpContext(r1, r2);
+    }
+
+    @Override
+    int endPos() { return (int) (end - origin); }
+  }
+
+  // The UTF-16 implementations below share these conventions: |pos| and
+  // |width| are in Java "char" units, relative to the start of the
+  // underlying sequence; |start| and |end| bound the text that may be
+  // matched; surrogate pairs are decoded against the bounds of the whole
+  // sequence, as Character.codePointAt(CharSequence, int) does.  Each step()
+  // and context() handles BMP chars without a surrogate check beyond one
+  // comparison, and reads its source directly so the call sites stay
+  // monomorphic.
+
+  // An implementation of MachineInput for Strings.  It may be re-pointed at
+  // another String; see fromUTF16(CharSequence, MachineInput).
+  private static final class StringInput extends MachineInput {
+    String str;
+    int start;
+    int end;
+
+    StringInput(String str, int start, int end) {
       this.str = str;
       this.start = start;
       this.end = end;
@@ -184,10 +490,12 @@ abstract class MachineInput {
     int step(int pos) {
       pos += start;
       if (pos < end) {
-        int rune = Character.codePointAt(str, pos);
-        int nextPos = pos + Character.charCount(rune);
-        int width = nextPos - pos;
-        return rune << 3 | width;
+        char c = str.charAt(pos);
+        if (!Character.isHighSurrogate(c)) {
+          return c << 3 | 1;
+        }
+        int rune = str.codePointAt(pos);
+        return rune << 3 | Character.charCount(rune);
       } else {
         return EOF;
       }
@@ -199,71 +507,338 @@ abstract class MachineInput {
     }
 
     @Override
-    int index(RE2 re2, int pos) {
+    int index(RE2 re2, int pos, int before) {
       pos += start;
-      int i = indexOf(str, re2.prefix, pos);
+      int max = start + before - 1;
+      int i = max >= str.length() - re2.prefix.length()
+          ? str.indexOf(re2.prefix, pos)
+          : indexOfFallback(str, re2.prefix, pos, max);
       return i < 0 ? i : i - pos;
     }
 
     @Override
     int context(int pos) {
       pos += start;
-      int r1 = pos > start && pos <= end
-          ? Character.codePointBefore(str, pos)
-          : -1;
+      int r1 = -1;
+      if (pos > start && pos <= end) {
+        char c = str.charAt(pos - 1);
+        r1 = Character.isLowSurrogate(c) ? str.codePointBefore(pos) : c;
+      }
       int r2 = pos < end
-          ? Character.codePointAt(str, pos)
+          ? str.codePointAt(pos)
           : -1;
       return Utils.emptyOpContext(r1, r2);
     }
 
     @Override
     int endPos() { return end; }
+  }
+
+  // An implementation of MachineInput for a range of a char[], as found
+  // directly or behind a heap CharBuffer.  Index |i| denotes
+  // |a[offset + i]|; the sequence has |len| chars.
+  private static final class CharArrayInput extends MachineInput {
+    final char[] a;
+    final int offset;
+    final int limit;  // offset + len
+    final int start;
+    final int end;
 
-    private int indexOf(CharSequence hayStack, String needle, int pos) {
-      if (hayStack instanceof String) {
-        return ((String) hayStack).indexOf(needle, pos);
+    CharArrayInput(char[] a, int offset, int len, int start, int end) {
+      if (offset < 0 || len < 0 || offset + len > a.length) {
+        throw new IndexOutOfBoundsException(
+            "offset " + offset + ", length " + len + ", array " + a.length);
       }
-      if (hayStack instanceof StringBuilder) {
-        return ((StringBuilder) hayStack).indexOf(needle, pos);
+      this.a = a;
+      this.offset = offset;
+      this.limit = offset + len;
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    int step(int pos) {
+      pos += start;
+      if (pos < end) {
+        int i = offset + pos;
+        char c = a[i];
+        if (!Character.isHighSurrogate(c)) {
+          return c << 3 | 1;
+        }
+        int rune = Character.codePointAt(a, i, limit);
+        return rune << 3 | Character.charCount(rune);
+      } else {
+        return EOF;
       }
-      return indexOfFallback(hayStack, needle, pos);
     }
 
-    // Modified version of {@link String#indexOf(String) that allows a CharSequence.
-    private int indexOfFallback(CharSequence hayStack, String needle, int fromIndex) {
-      if (fromIndex >= hayStack.length()) {
-        return needle.isEmpty() ? 0 : -1;
+    @Override
+    boolean canCheckPrefix() {
+      return true;
+    }
+
+    @Override
+    int index(RE2 re2, int pos, int before) {
+      pos += start;
+      String needle = re2.prefix;
+      int n = needle.length();
+      if (n == 0) {
+        return 0;
       }
-      if (fromIndex < 0) {
-        fromIndex = 0;
+      char first = needle.charAt(0);
+      int max = Math.min(limit - n, offset + start + before - 1);
+      for (int i = offset + pos; i <= max; i++) {
+        if (a[i] != first) {
+          continue;
+        }
+        int k = 1;
+        while (k < n && a[i + k] == needle.charAt(k)) {
+          k++;
+        }
+        if (k == n) {
+          return i - offset - pos;
+        }
       }
-      if (needle.isEmpty()) {
-        return fromIndex;
+      return -1;
+    }
+
+    @Override
+    int context(int pos) {
+      pos += start;
+      int r1 = -1;
+      if (pos > start && pos <= end) {
+        char c = a[offset + pos - 1];
+        r1 = Character.isLowSurrogate(c)
+            ? Character.codePointBefore(a, offset + pos, offset)
+            : c;
       }
+      int r2 = pos < end
+          ? Character.codePointAt(a, offset + pos, limit)
+          : -1;
+      return Utils.emptyOpContext(r1, r2);
+    }
 
-      char first = needle.charAt(0);
-      int max = hayStack.length() - needle.length();
+    @Override
+    int endPos() { return end; }
+  }
 
-      for (int i = fromIndex; i <= max; i++) {
-        /* Look for first character. */
-        if (hayStack.charAt(i) != first) {
-          while (++i <= max && hayStack.charAt(i) != first) {}
+  // An implementation of MachineInput for CharBuffers without an
+  // accessible array (e.g. direct buffers).  Index |i| denotes
+  // |b.get(b.position() + i)|, as in CharBuffer.charAt.
+  private static final class CharBufferInput extends MachineInput {
+    final CharBuffer b;
+    final int offset;
+    final int limit;
+    final int start;
+    final int end;
+
+    CharBufferInput(CharBuffer b, int start, int end) {
+      this.b = b;
+      this.offset = b.position();
+      this.limit = b.limit();
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    int step(int pos) {
+      pos += start;
+      if (pos < end) {
+        int i = offset + pos;
+        char c = b.get(i);
+        if (Character.isHighSurrogate(c) && i + 1 < limit) {
+          char c2 = b.get(i + 1);
+          if (Character.isLowSurrogate(c2)) {
+            return Character.toCodePoint(c, c2) << 3 | 2;
+          }
         }
+        return c << 3 | 1;
+      } else {
+        return EOF;
+      }
+    }
 
-        /* Found first character, now look at the rest of v2 */
-        if (i <= max) {
-          int j = i + 1;
-          int end = j + needle.length() - 1;
-          for (int k = 1; j < end && hayStack.charAt(j) == needle.charAt(k); j++, k++) {}
+    @Override
+    boolean canCheckPrefix() {
+      return true;
+    }
+
+    @Override
+    int index(RE2 re2, int pos, int before) {
+      pos += start;
+      int i = indexOfFallback(b, re2.prefix, pos, start + before - 1);
+      return i < 0 ? i : i - pos;
+    }
 
-          if (j == end) {
-            /* Found whole string. */
-            return i;
+    @Override
+    int context(int pos) {
+      pos += start;
+      int r1 = -1;
+      if (pos > start && pos <= end) {
+        int i = offset + pos - 1;
+        char c = b.get(i);
+        r1 = c;
+        if (Character.isLowSurrogate(c) && i > offset) {
+          char c0 = b.get(i - 1);
+          if (Character.isHighSurrogate(c0)) {
+            r1 = Character.toCodePoint(c0, c);
           }
         }
       }
-      return -1;
+      int r2 = pos < end
+          ? step(pos - start) >> 3
+          : -1;
+      return Utils.emptyOpContext(r1, r2);
+    }
+
+    @Override
+    int endPos() { return end; }
+  }
+
+  // An implementation of MachineInput for arbitrary CharSequences.  Rather
+  // than calling through the interface for every char, it bulk-copies a
+  // window of the sequence into a char[] and refills it when the machine
+  // moves past it.  Machine reads mostly forwards with a few chars of
+  // look-behind, so each char is typically copied once.
+  private static final class CharSequenceInput extends MachineInput {
+    private static final int WINDOW = 1024;
+    private static final int LOOK_BEHIND = 8;
+
+    final CharSequence str;
+    final int length;
+    final int start;
+    final int end;
+    final char[] window;
+    int windowStart;  // index in |str| of |window[0]|
+    int windowLen;    // number of valid chars in |window|
+
+    CharSequenceInput(CharSequence str, int start, int end) {
+      this.str = str;
+      this.length = str.length();
+      this.start = start;
+      this.end = end;
+      this.window = new char[Math.min(WINDOW, length)];
+    }
+
+    // Returns the char at index |i| of |str|, refilling the window if
+    // needed.  Precondition: 0 <= i < length.
+    private char charAt(int i) {
+      int j = i - windowStart;
+      if (j < 0 || j >= windowLen) {
+        fill(i);
+        j = i - windowStart;
+      }
+      return window[j];
+    }
+
+    private void fill(int i) {
+      int from = i - Math.min(i, LOOK_BEHIND);
+      int n = Math.min(window.length, length - from);
+      if (str instanceof StringBuilder) {
+        ((StringBuilder) str).getChars(from, from + n, window, 0);
+      } else if (str instanceof StringBuffer) {
+        ((StringBuffer) str).getChars(from, from + n, window, 0);
+      } else {
+        for (int k = 0; k < n; k++) {
+          window[k] = str.charAt(from + k);
+        }
+      }
+      windowStart = from;
+      windowLen = n;
+    }
+
+    @Override
+    int step(int pos) {
+      pos += start;
+      if (pos < end) {
+        char c = charAt(pos);
+        if (Character.isHighSurrogate(c) && pos + 1 < length) {
+          char c2 = charAt(pos + 1);
+          if (Character.isLowSurrogate(c2)) {
+            return Character.toCodePoint(c, c2) << 3 | 2;
+          }
+        }
+        return c << 3 | 1;
+      } else {
+        return EOF;
+      }
+    }
+
+    @Override
+    boolean canCheckPrefix() {
+      return true;
+    }
+
+    @Override
+    int index(RE2 re2, int pos, int before) {
+      pos += start;
+      int max = start + before - 1;
+      int i = str instanceof StringBuilder &&
+              max >= length - re2.prefix.length()
+          ? ((StringBuilder) str).indexOf(re2.prefix, pos)
+          : indexOfFallback(str, re2.prefix, pos, max);
+      return i < 0 ? i : i - pos;
+    }
+
+    @Override
+    int context(int pos) {
+      pos += start;
+      int r1 = -1;
+      if (pos > start && pos <= end) {
+        char c = charAt(pos - 1);
+        r1 = c;
+        if (Character.isLowSurrogate(c) && pos - 1 > 0) {
+          char c0 = charAt(pos - 2);
+          if (Character.isHighSurrogate(c0)) {
+            r1 = Character.toCodePoint(c0, c);
+          }
+        }
+      }
+      int r2 = pos < end
+          ? step(pos - start) >> 3
+          : -1;
+      return Utils.emptyOpContext(r1, r2);
+    }
+
+    @Override
+    int endPos() { return end; }
+  }
+
+  // Modified version of {@link String#indexOf(String) that allows a CharSequence,
+  // and finds only occurrences that start at or before |max|.
+  private static int indexOfFallback(CharSequence hayStack, String needle, int fromIndex,
+                                     int max) {
+    if (fromIndex >= hayStack.length()) {
+      return needle.isEmpty() ? 0 : -1;
+    }
+    if (fromIndex < 0) {
+      fromIndex = 0;
+    }
+    if (needle.isEmpty()) {
+      return fromIndex;
+    }
+
+    char first = needle.charAt(0);
+    max = Math.min(max, hayStack.length() - needle.length());
+
+    for (int i = fromIndex; i <= max; i++) {
+      /* Look for first character. */
+      if (hayStack.charAt(i) != first) {
+        while (++i <= max && hayStack.charAt(i) != first) {}
+      }
+
+      /* Found first character, now look at the rest of v2 */
+      if (i <= max) {
+        int j = i + 1;
+        int end = j + needle.length() - 1;
+        for (int k = 1; j < end && hayStack.charAt(j) == needle.charAt(k); j++, k++) {}
+
+        if (j == end) {
+          /* Found whole string. */
+          return i;
+        }
+      }
     }
+    return -1;
   }
 }
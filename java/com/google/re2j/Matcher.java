@@ -2,6 +2,10 @@
 
 package com.google.re2j;
 
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+
 /**
  * A stateful iterator that interprets a regex {@code Pattern} on a
  * specific input.  Its interface mimics the JDK 1.4.2
@@ -26,12 +30,19 @@ package com.google.re2j;
  *
  * </ol>
  *
+ * <p>A Matcher created by {@link Pattern#matcherUTF8(ByteBuffer)} or reset
+ * with {@link #resetUTF8(ByteBuffer)} reads UTF-8 bytes instead of UTF-16
+ * chars; all of its positions are byte offsets, and its groups are decoded
+ * to {@code String}s on demand.
+ *
  * <p>See the <a href="package.html">package-level
  * documentation</a> for an overview of how to use this API.</p>
  *
  * @author rsc@google.com (Russ Cox)
  */
 public final class Matcher {
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+
   // The pattern being matched.
   private final Pattern pattern;
 
@@ -41,9 +52,16 @@ public final class Matcher {
   // The number of submatches (groups) in the pattern.
   private final int groupCount;
 
+  // Map from capture slot to tracked slot (see RE2.captureSlots) if only
+  // some groups are tracked, or null if all are.
+  private final int[] captureSlots;
+
   private CharSequence inputSequence;
 
-  // The input length in UTF16 codes.
+  // The UTF-8 input, positioned at its start; null unless matching bytes.
+  private ByteBuffer inputBuffer;
+
+  // The input length in UTF16 codes, or bytes if matching UTF-8.
   private int inputLength;
 
   // The append position: where the next append should start.
@@ -59,7 +77,7 @@ public final class Matcher {
   // The anchor flag to use when repeating the match to find subgroups.
   private int anchorFlag;
 
-  private Matcher(Pattern pattern) {
+  private Matcher(Pattern pattern, int[] groupsNeeded) {
     if (pattern == null) {
       throw new NullPointerException("pattern is null");
     }
@@ -67,14 +85,32 @@ public final class Matcher {
     RE2 re2 = pattern.re2();
     groupCount = re2.numberOfCapturingGroups();
     groups = new int[2 + 2 * groupCount];
+    captureSlots = groupsNeeded == null
+        ? null
+        : re2.captureSlots(groupsNeeded);
   }
 
   /** Creates a new {@code Matcher} with the given pattern and input. */
   Matcher(Pattern pattern, CharSequence input) {
-    this(pattern);
+    this(pattern, input, null);
+  }
+
+  /**
+   * Creates a new {@code Matcher} with the given pattern and input that
+   * records only the groups in {@code groupsNeeded} (and group 0), or all
+   * groups if it is null.
+   */
+  Matcher(Pattern pattern, CharSequence input, int[] groupsNeeded) {
+    this(pattern, groupsNeeded);
     reset(input);
   }
 
+  /** Creates a new {@code Matcher} with the given pattern and UTF-8 input. */
+  Matcher(Pattern pattern, ByteBuffer input) {
+    this(pattern, (int[]) null);
+    resetUTF8(input);
+  }
+
   /** Returns the {@code Pattern} associated with this {@code Matcher}. */
   public Pattern pattern() {
     return pattern;
@@ -105,10 +141,52 @@ public final class Matcher {
     }
     reset();
     inputSequence = input;
+    inputBuffer = null;
     inputLength = input.length();
     return this;
   }
 
+  /**
+   * Resets the {@code Matcher} and changes the input to the UTF-8 encoded
+   * bytes of {@code input} between its position and its limit.  Match
+   * positions are byte offsets relative to the buffer's position.  The
+   * bytes are not copied, so they must not be modified while the matcher
+   * is in use; the buffer's position and limit may be.
+   *
+   * @param input the buffer holding the new input, heap or direct
+   * @return the {@code Matcher} itself, for chained method calls
+   */
+  public Matcher resetUTF8(ByteBuffer input) {
+    if (input == null) {
+      throw new NullPointerException("input is null");
+    }
+    reset();
+    inputSequence = null;
+    inputBuffer = input.slice();
+    inputLength = inputBuffer.remaining();
+    return this;
+  }
+
+  /**
+   * Resets the {@code Matcher} and changes the input to the {@code length}
+   * chars of {@code input} starting at {@code offset}.  Match positions are
+   * relative to {@code offset}.  The array is not copied, so it must not be
+   * modified while the matcher is in use.
+   *
+   * @param input the array holding the new input
+   * @param offset the index in {@code input} of the first char
+   * @param length the number of chars of input
+   * @return the {@code Matcher} itself, for chained method calls
+   * @throws IndexOutOfBoundsException if {@code offset} and {@code length}
+   *   do not describe a range of {@code input}
+   */
+  public Matcher reset(char[] input, int offset, int length) {
+    if (input == null) {
+      throw new NullPointerException("input is null");
+    }
+    return reset(CharBuffer.wrap(input, offset, length));
+  }
+
   /**
    * Returns the start position of the most recent match.
    *
@@ -134,6 +212,8 @@ public final class Matcher {
    * @throws IllegalStateException if there is no match
    * @throws IndexOutOfBoundsException
    *   if {@code group < 0} or {@code group > groupCount()}
+   * @throws IllegalArgumentException if this matcher does not track
+   *   {@code group}
    */
   public int start(int group) {
     loadGroup(group);
@@ -147,6 +227,8 @@ public final class Matcher {
    * @throws IllegalStateException if there is no match
    * @throws IndexOutOfBoundsException
    *   if {@code group < 0} or {@code group > groupCount()}
+   * @throws IllegalArgumentException if this matcher does not track
+   *   {@code group}
    */
   public int end(int group) {
     loadGroup(group);
@@ -168,6 +250,8 @@ public final class Matcher {
    * @throws IllegalStateException if there is no match
    * @throws IndexOutOfBoundsException if {@code group < 0}
    *   or {@code group > groupCount()}
+   * @throws IllegalArgumentException if this matcher does not track
+   *   {@code group}
    */
   public String group(int group) {
     int start = start(group);
@@ -197,6 +281,10 @@ public final class Matcher {
     if (!hasMatch) {
       throw new IllegalStateException("perhaps no match attempted");
     }
+    if (captureSlots != null && captureSlots[2 * group] < 0) {
+      throw new IllegalArgumentException(
+          "Group not tracked by this matcher: " + group);
+    }
     if (group == 0 || hasGroups) {
       return;
     }
@@ -208,13 +296,26 @@ public final class Matcher {
     // If we don't, they evaluate to new String[] {"ab", "a", "b", null}
     // We know it won't affect the total matched because the previous call
     // to match included the extra character, and it was not matched then.
-    int end = groups[1] + 1;
+    int end = groups[1] + runeWidth(groups[1]);
     if (end > inputLength) {
       end = inputLength;
     }
 
-    boolean ok = pattern.re2().match(inputSequence, groups[0], end,
-      anchorFlag, groups, 1 + groupCount);
+    boolean ok;
+    RE2 re2 = pattern.re2();
+    if (inputBuffer != null) {
+      ok = captureSlots == null
+          ? re2.match(inputBuffer, groups[0], end,
+              anchorFlag, groups, 1 + groupCount)
+          : re2.match(inputBuffer, groups[0], end,
+              anchorFlag, groups, captureSlots);
+    } else {
+      ok = captureSlots == null
+          ? re2.match(inputSequence, groups[0], end,
+              anchorFlag, groups, 1 + groupCount)
+          : re2.match(inputSequence, groups[0], end,
+              anchorFlag, groups, captureSlots);
+    }
     // Must match - hasMatch says that the last call with these
     // parameters worked just fine.
     if (!ok) {
@@ -256,7 +357,7 @@ public final class Matcher {
     if (hasMatch) {
       start = groups[1];
       if (groups[0] == groups[1]) {  // empty match - nudge forward
-        start++;
+        start += runeWidth(start);
       }
     }
     return genMatch(start, RE2.UNANCHORED);
@@ -280,12 +381,27 @@ public final class Matcher {
     return genMatch(start, 0);
   }
 
+  // setMatch() makes [start, end) the current match, as though find() had
+  // just found it, and moves the append position to |appendPos|.  Used by
+  // ParallelSearch to expand replacements for matches it found.
+  void setMatch(int start, int end, int appendPos) {
+    groups[0] = start;
+    groups[1] = end;
+    hasMatch = true;
+    hasGroups = false;
+    anchorFlag = RE2.UNANCHORED;
+    this.appendPos = appendPos;
+  }
+
   /** Helper: does match starting at start, with RE2 anchor flag. */
   private boolean genMatch(int startByte, int anchor) {
     // TODO(rsc): Is matches/lookingAt supposed to reset the append or input positions?
     // From the JDK docs, looks like no.
-    boolean ok = pattern.re2().match(inputSequence, startByte, inputLength,
-        anchor, groups, 1);
+    boolean ok = inputBuffer != null
+        ? pattern.re2().match(inputBuffer, startByte, inputLength,
+            anchor, groups, 1)
+        : pattern.re2().match(inputSequence, startByte, inputLength,
+            anchor, groups, 1);
     if (!ok) {
       return false;
     }
@@ -296,8 +412,28 @@ public final class Matcher {
     return true;
   }
 
+  /**
+   * Helper: returns the number of input units (chars, or bytes if matching
+   * UTF-8) to step over to get past the character at {@code pos}.
+   */
+  private int runeWidth(int pos) {
+    if (inputBuffer == null || pos >= inputLength) {
+      return 1;
+    }
+    int x = inputBuffer.get(pos) & 0xff;
+    int width = x < 0xC0 ? 1 : x < 0xE0 ? 2 : x < 0xF0 ? 3 : 4;
+    return Math.min(width, inputLength - pos);
+  }
+
   /** Helper: return substring for [start, end). */
   String substring(int start, int end) {
+    if (inputBuffer != null) {
+      byte[] b = new byte[end - start];
+      for (int i = 0; i < b.length; i++) {
+        b[i] = inputBuffer.get(start + i);
+      }
+      return new String(b, UTF_8);
+    }
     // This is fast for both StringBuilder and String.
     return inputSequence.subSequence(start, end).toString();
   }
@@ -0,0 +1,324 @@
+// Copyright 2026 Google Inc. All Rights Reserved.
+
+package com.google.re2j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * ParallelSearch finds all the matches in a large input, as successive
+ * calls to {@link Matcher#find()} would, by searching chunks of the input
+ * concurrently.
+ *
+ * <p>Each chunk is searched as if a match ended at its start, collecting
+ * the matches that start in it; the search runs past the end of the chunk
+ * only as far as the matches that started in it need, so each chunk reads
+ * little more than its own share of the input.  The chunk results are then
+ * joined from left to right.  Where the previous chunk's last match ends at
+ * or before the start of a chunk, the sequential search would have found
+ * the chunk's first match next, so the chunk's matches are taken as they
+ * are.  Otherwise the sequential search is re-run from the end of that
+ * match until it finds one of the chunk's matches, from which point the two
+ * agree, or leaves the chunk.
+ */
+final class ParallelSearch {
+
+  // Inputs shorter than this per chunk are searched sequentially.
+  static final int MIN_CHUNK = 1 << 16;
+
+  private final RE2 re2;
+
+  // The input: exactly one of |chars| and |bytes| is non-null.
+  private final CharSequence chars;
+  private final byte[] bytes;
+  private final int length;
+
+  ParallelSearch(RE2 re2, CharSequence chars) {
+    this.re2 = re2;
+    this.chars = chars;
+    this.bytes = null;
+    this.length = chars.length();
+  }
+
+  ParallelSearch(RE2 re2, byte[] bytes) {
+    this.re2 = re2;
+    this.chars = null;
+    this.bytes = bytes;
+    this.length = bytes.length;
+  }
+
+  // defaultChunks() returns the number of chunks to split the input into.
+  int defaultChunks() {
+    int n = 4 * Runtime.getRuntime().availableProcessors();
+    return Math.max(1, Math.min(n, length / MIN_CHUNK));
+  }
+
+  // findAll() returns the bounds of all the matches as a flat array of
+  // [start, end) pairs, searching |nchunks| chunks on |executor|.
+  int[] findAll(ExecutorService executor, int nchunks) {
+    // (The last chunk ends past the input, to include an empty match at
+    // its end.)
+    if (nchunks <= 1 || length < 2 * nchunks) {
+      Chunk c = new Chunk(0, length + 1);
+      c.call();
+      return Arrays.copyOf(c.matches, c.n);
+    }
+    List<Chunk> chunks = new ArrayList<Chunk>();
+    int start = 0;
+    for (int i = 1; i <= nchunks; i++) {
+      int end = i == nchunks
+          ? length + 1
+          : align((int) ((long) length * i / nchunks));
+      if (end > start) {
+        chunks.add(new Chunk(start, end));
+        start = end;
+      }
+    }
+    invokeAll(executor, chunks);
+
+    // Join the chunks from left to right.
+    MachineInput in = newInput();
+    int[] out = new int[16];
+    int n = 0;
+    int pos = 0;  // end of the last match
+    boolean nudge = false;  // was it empty?
+    boolean lands = true;  // does the search from |pos| reach the next chunk?
+    for (Chunk c : chunks) {
+      int q = nudge ? pos + runeWidth(pos) : pos;
+      if (q <= c.start && (lands || landsOn(in, q, c.start))) {
+        if (n + c.n > out.length) {
+          out = Arrays.copyOf(out, Math.max(n + c.n, 2 * out.length));
+        }
+        System.arraycopy(c.matches, 0, out, n, c.n);
+        n += c.n;
+        if (c.n > 0) {
+          pos = c.matches[c.n - 1];
+          nudge = c.matches[c.n - 2] == pos;
+        }
+        lands = c.lands;
+        continue;
+      }
+      // The last match overlaps this chunk: search again from its end.
+      lands = false;
+      int j = 0;
+      for (;;) {
+        if (q > length) {
+          return Arrays.copyOf(out, n);
+        }
+        int[] cap = re2.doExecuteBefore(in, q, c.end, 2);
+        if (cap == null) {  // none starts in this chunk
+          break;
+        }
+        while (j < c.n && c.matches[j] < cap[0]) {
+          j += 2;
+        }
+        if (j < c.n && c.matches[j] == cap[0] && c.matches[j + 1] == cap[1]) {
+          // Back in step with the chunk's own search.
+          int m = c.n - j;
+          if (n + m > out.length) {
+            out = Arrays.copyOf(out, Math.max(n + m, 2 * out.length));
+          }
+          System.arraycopy(c.matches, j, out, n, m);
+          n += m;
+          pos = c.matches[c.n - 1];
+          nudge = c.matches[c.n - 2] == pos;
+          lands = c.lands;
+          break;
+        }
+        if (n + 2 > out.length) {
+          out = Arrays.copyOf(out, 2 * out.length);
+        }
+        out[n++] = cap[0];
+        out[n++] = cap[1];
+        pos = cap[1];
+        nudge = cap[0] == cap[1];
+        q = nudge ? pos + runeWidth(pos) : pos;
+      }
+    }
+    return Arrays.copyOf(out, n);
+  }
+
+  // replaceAll() returns the input with every match found by findAll()
+  // replaced as Matcher.replaceAll() would replace it.  Runs of consecutive
+  // matches are expanded concurrently into separate buffers, which are
+  // then copied once into an output of the exact length.
+  String replaceAll(Pattern pattern, String replacement,
+                    ExecutorService executor, int nchunks) {
+    int[] bounds = findAll(executor, nchunks);
+    int nmatch = bounds.length / 2;
+    if (nmatch == 0) {
+      return chars.toString();
+    }
+    int nparts = Math.max(1, Math.min(nchunks, nmatch));
+    List<Part> parts = new ArrayList<Part>();
+    for (int i = 0; i < nparts; i++) {
+      parts.add(new Part(pattern, replacement, bounds,
+          (int) ((long) nmatch * i / nparts),
+          (int) ((long) nmatch * (i + 1) / nparts)));
+    }
+    if (nparts == 1) {
+      parts.get(0).call();
+    } else {
+      invokeAll(executor, parts);
+    }
+    int total = 0;
+    for (Part p : parts) {
+      total += p.out.length();
+    }
+    char[] out = new char[total];
+    int n = 0;
+    for (Part p : parts) {
+      p.out.getChars(0, p.out.length(), out, n);
+      n += p.out.length();
+    }
+    return new String(out);
+  }
+
+  // The replaced text of matches [first, last) of |bounds|.  It runs from
+  // the first match (or the start of the input) to the next part's first
+  // match (or the end of the input).
+  private final class Part implements Callable<Void> {
+    final Pattern pattern;
+    final String replacement;
+    final int[] bounds;
+    final int first;
+    final int last;
+    StringBuffer out;
+
+    Part(Pattern pattern, String replacement, int[] bounds, int first,
+         int last) {
+      this.pattern = pattern;
+      this.replacement = replacement;
+      this.bounds = bounds;
+      this.first = first;
+      this.last = last;
+    }
+
+    @Override
+    public Void call() {
+      int from = first == 0 ? 0 : bounds[2 * first];
+      int to = 2 * last == bounds.length ? length : bounds[2 * last];
+      StringBuffer sb = new StringBuffer(to - from);
+      Matcher m = pattern.matcher(chars);
+      int appendPos = from;
+      for (int k = first; k < last; k++) {
+        m.setMatch(bounds[2 * k], bounds[2 * k + 1], appendPos);
+        m.appendReplacement(sb, replacement);
+        appendPos = bounds[2 * k + 1];
+      }
+      sb.append(chars, appendPos, to);
+      out = sb;
+      return null;
+    }
+  }
+
+  // The matches that start in [start, end), found by searching from start.
+  private final class Chunk implements Callable<Void> {
+    final int start;
+    final int end;
+    int[] matches = new int[16];
+    int n;  // number of entries used in |matches|
+    boolean lands;  // does the final search pass through |end|?
+
+    Chunk(int start, int end) {
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    public Void call() {
+      MachineInput in = newInput();
+      int q = start;
+      while (q <= length) {
+        int[] cap = re2.doExecuteBefore(in, q, end, 2);
+        if (cap == null) {
+          break;
+        }
+        if (n + 2 > matches.length) {
+          matches = Arrays.copyOf(matches, 2 * matches.length);
+        }
+        matches[n++] = cap[0];
+        matches[n++] = cap[1];
+        q = cap[0] == cap[1] ? cap[1] + runeWidth(cap[1]) : cap[1];
+      }
+      lands = q <= end && landsOn(in, q, end);
+      return null;
+    }
+  }
+
+  // landsOn() reports whether stepping through the runes of the input from
+  // |pos| reaches |target| exactly, so that a search from |pos| considers
+  // the same match starts at and after |target| as a search from there.
+  private static boolean landsOn(MachineInput in, int pos, int target) {
+    while (pos < target) {
+      int r = in.step(pos);
+      if (r == MachineInput.EOF) {
+        return false;
+      }
+      pos += r & 7;
+    }
+    return pos == target;
+  }
+
+  // align() moves |pos| forward, if need be, to the start of a rune.
+  private int align(int pos) {
+    if (chars != null) {
+      if (pos > 0 && pos < length &&
+          Character.isLowSurrogate(chars.charAt(pos)) &&
+          Character.isHighSurrogate(chars.charAt(pos - 1))) {
+        pos++;
+      }
+    } else {
+      for (int i = 0; i < 3 && pos < length && (bytes[pos] & 0xC0) == 0x80;
+           i++) {
+        pos++;
+      }
+    }
+    return pos;
+  }
+
+  // runeWidth() returns how far Matcher.find() moves past an empty match
+  // at |pos|.
+  private int runeWidth(int pos) {
+    if (bytes == null || pos >= length) {
+      return 1;
+    }
+    int x = bytes[pos] & 0xff;
+    int width = x < 0xC0 ? 1 : x < 0xE0 ? 2 : x < 0xF0 ? 3 : 4;
+    return Math.min(width, length - pos);
+  }
+
+  // (Some MachineInputs cache text, so each thread needs its own.)
+  private MachineInput newInput() {
+    return chars != null
+        ? MachineInput.fromUTF16(chars)
+        : MachineInput.fromUTF8(bytes);
+  }
+
+  // invokeAll() runs |tasks| on |executor| and waits for them.
+  static <T> void invokeAll(ExecutorService executor,
+                            List<? extends Callable<T>> tasks) {
+    try {
+      for (Future<T> f : executor.invokeAll(tasks)) {
+        f.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("interrupted", e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new IllegalStateException(cause);
+    }
+  }
+}
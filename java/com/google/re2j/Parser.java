@@ -1516,13 +1516,13 @@ class Parser {
     if (name.equals("Any")) {
       return Pair.of(ANY_TABLE, ANY_TABLE);
     }
-    int[][] table = UnicodeTables.CATEGORIES.get(name);
+    int[][] table = UnicodeTables.category(name);
     if (table != null) {
-      return Pair.of(table, UnicodeTables.FOLD_CATEGORIES.get(name));
+      return Pair.of(table, UnicodeTables.foldCategory(name));
     }
-    table = UnicodeTables.SCRIPTS.get(name);
+    table = UnicodeTables.script(name);
     if (table != null) {
-      return Pair.of(table, UnicodeTables.FOLD_SCRIPT.get(name));
+      return Pair.of(table, UnicodeTables.foldScript(name));
     }
     return null;
   }
@@ -2,7 +2,24 @@
 
 package com.google.re2j;
 
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Reader;
 import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 /**
  * A compiled representation of an RE2 regular expression, mimicking the
@@ -44,6 +61,12 @@ public final class Pattern implements Serializable {
   // The compiled RE2 regexp.
   private transient final RE2 re2;
 
+  // The first four bytes of a bundle written by writeBundle(): "RE2B".
+  private static final int BUNDLE_MAGIC = 0x52453242;
+
+  // The cache consulted by compile(), or null; see setCompileCache().
+  private static volatile PatternCache compileCache;
+
   // This is visible for testing.
   Pattern(String pattern, int flags, RE2 re2) {
     if (pattern == null) {
@@ -84,6 +107,56 @@ public final class Pattern implements Serializable {
     return re2;
   }
 
+  /**
+   * Starts collecting runtime statistics of the searches run with this
+   * pattern, if not already collecting them, and returns them.  A pattern
+   * returned by {@link #compile} may be shared through the compile cache,
+   * in which case so are its metrics.
+   *
+   * @return the metrics of this pattern
+   */
+  public synchronized PatternMetrics enableMetrics() {
+    PatternMetrics metrics = re2.metrics;
+    if (metrics == null) {
+      metrics = new PatternMetrics(this);
+      re2.setMetrics(metrics);
+    }
+    return metrics;
+  }
+
+  /**
+   * Stops collecting runtime statistics, after which searches with this
+   * pattern run at full speed again.
+   */
+  public synchronized void disableMetrics() {
+    re2.setMetrics(null);
+  }
+
+  /**
+   * Returns the runtime statistics of this pattern, or null if they are
+   * not being collected; see {@link #enableMetrics}.
+   */
+  public PatternMetrics metrics() {
+    return re2.metrics;
+  }
+
+  /**
+   * Returns a report of how searches with this pattern run: the engine
+   * chosen, the size of its program, its literal prefix and anchoring,
+   * and the memory each search needs.
+   */
+  public PatternExplanation explain() {
+    return new PatternExplanation(this);
+  }
+
+  /**
+   * Returns a new profiler, which shows the parts of this pattern that do
+   * the work of the searches it runs.
+   */
+  public PatternProfiler profiler() {
+    return new PatternProfiler(this);
+  }
+
   /**
    * Creates and returns a new {@code Pattern} corresponding to
    * compiling {@code regex} with the default flags (0).
@@ -92,6 +165,10 @@ public final class Pattern implements Serializable {
    * @throws PatternSyntaxException if the pattern is malformed
    */
   public static Pattern compile(String regex) {
+    PatternCache cache = compileCache;
+    if (cache != null) {
+      return cache.compile(regex, 0);
+    }
     return compile(regex, regex, 0);
   }
 
@@ -106,6 +183,34 @@ public final class Pattern implements Serializable {
    * @throws IllegalArgumentException if an unknown flag is given
    */
   public static Pattern compile(String regex, int flags) {
+    PatternCache cache = compileCache;
+    if (cache != null) {
+      return cache.compile(regex, flags);
+    }
+    return compileUncached(regex, flags);
+  }
+
+  /**
+   * Installs a cache that {@link #compile(String)} and
+   * {@link #compile(String, int)} consult, so that they return the same
+   * {@code Pattern} for recurring expressions instead of compiling them
+   * again.  There is no cache by default.
+   *
+   * @param cache the cache to use, or null to compile every time
+   */
+  public static void setCompileCache(PatternCache cache) {
+    compileCache = cache;
+  }
+
+  /**
+   * Returns the cache installed by {@link #setCompileCache}, or null.
+   */
+  public static PatternCache getCompileCache() {
+    return compileCache;
+  }
+
+  // compileUncached() is compile(regex, flags) without the cache.
+  static Pattern compileUncached(String regex, int flags) {
     String flregex = regex;
     if ((flags & CASE_INSENSITIVE) != 0) {
       flregex = "(?i)" + flregex;
@@ -128,11 +233,17 @@ public final class Pattern implements Serializable {
    * Flregex is the regex with flags applied.
    */
   private static Pattern compile(String flregex, String regex, int flags) {
+    return new Pattern(regex, flags,
+        RE2.compileImpl(flregex, re2Flags(flags), /*longest=*/false));
+  }
+
+  // re2Flags() returns the RE2 parser flags for the Pattern flags |flags|.
+  static int re2Flags(int flags) {
     int re2Flags = RE2.PERL;
     if ((flags & DISABLE_UNICODE_GROUPS) != 0) {
       re2Flags &= ~RE2.UNICODE_GROUPS;
     }
-    return new Pattern(regex, flags, RE2.compileImpl(flregex, re2Flags, /*longest=*/false));
+    return re2Flags;
   }
 
   /**
@@ -160,6 +271,222 @@ public final class Pattern implements Serializable {
     return new Matcher(this, input);
   }
 
+  /**
+   * Creates a new {@code Matcher} matching the pattern against UTF-8
+   * input: the bytes of {@code input} between its position and its limit.
+   * The bytes are matched in place, without copying or decoding them, and
+   * all positions reported by the matcher are byte offsets relative to the
+   * buffer's position.  See {@link Matcher#resetUTF8(ByteBuffer)}.
+   *
+   * @param input the input buffer, heap or direct
+   */
+  public Matcher matcherUTF8(ByteBuffer input) {
+    return new Matcher(this, input);
+  }
+
+  /**
+   * Creates a new {@code Matcher} matching the pattern against UTF-8
+   * input.  Positions reported by the matcher are byte offsets.
+   *
+   * @param input the input bytes
+   */
+  public Matcher matcherUTF8(byte[] input) {
+    return new Matcher(this, ByteBuffer.wrap(input));
+  }
+
+  /**
+   * Creates a new {@code FileMatcher} that finds the matches of the pattern
+   * in a UTF-8 file, which it memory-maps instead of reading onto the
+   * heap.  The caller must close it.
+   *
+   * @param file the file to search
+   * @throws IOException if the file cannot be opened or mapped
+   */
+  public FileMatcher fileMatcher(File file) throws IOException {
+    return new FileMatcher(this, file);
+  }
+
+  /**
+   * Matches each of {@code inputs} against the pattern as a whole, as
+   * {@link Matcher#matches()} would, and stores the results in
+   * {@code matches}.  The batch is matched without allocating per input,
+   * which makes this much cheaper than a {@code Matcher} per input when
+   * the inputs are short.
+   *
+   * @param inputs the inputs to match
+   * @param matches receives, at index {@code i}, whether {@code inputs[i]}
+   *   matches
+   * @throws IllegalArgumentException if {@code matches} is shorter than
+   *   {@code inputs}
+   */
+  public void matchAll(CharSequence[] inputs, boolean[] matches) {
+    if (matches.length < inputs.length) {
+      throw new IllegalArgumentException("matches.length < inputs.length");
+    }
+    re2.matchBatch(inputs, inputs.length, RE2.ANCHOR_BOTH, matches);
+  }
+
+  /**
+   * Finds the first match in each of {@code inputs}, as
+   * {@link Matcher#find()} would, and stores its bounds in {@code bounds}.
+   * The batch is searched without allocating per input, which makes this
+   * much cheaper than a {@code Matcher} per input when the inputs are
+   * short.
+   *
+   * @param inputs the inputs to search
+   * @param bounds receives, at indices {@code 2 * i} and {@code 2 * i + 1},
+   *   the start and end of the first match in input {@code i}, or -1 if
+   *   there is none
+   * @return the number of inputs that contain a match
+   * @throws IllegalArgumentException if {@code bounds} is shorter than
+   *   twice the number of inputs
+   */
+  public int find(List<? extends CharSequence> inputs, int[] bounds) {
+    if (bounds.length < 2 * inputs.size()) {
+      throw new IllegalArgumentException(
+          "bounds.length < 2 * inputs.size()");
+    }
+    return re2.findBatch(inputs, bounds);
+  }
+
+  /**
+   * Returns the bounds of all the matches in the input, as successive calls
+   * to {@link Matcher#find()} would find them.  Large inputs are split into
+   * chunks that are searched concurrently on {@code executor}.
+   *
+   * @param input the input to search
+   * @param executor the executor on which to search the chunks
+   * @return a list of {start, end} pairs
+   */
+  public List<int[]> findAll(CharSequence input, ExecutorService executor) {
+    ParallelSearch s = new ParallelSearch(re2, input);
+    return pairs(s.findAll(executor, s.defaultChunks()));
+  }
+
+  /**
+   * Returns the bounds of all the matches in the UTF-8 input, as successive
+   * calls to {@link Matcher#find()} would find them.  Large inputs are
+   * split into chunks that are searched concurrently on {@code executor}.
+   *
+   * @param input the input to search
+   * @param executor the executor on which to search the chunks
+   * @return a list of {start, end} byte offset pairs
+   */
+  public List<int[]> findAll(byte[] input, ExecutorService executor) {
+    ParallelSearch s = new ParallelSearch(re2, input);
+    return pairs(s.findAll(executor, s.defaultChunks()));
+  }
+
+  /**
+   * Returns the number of matches in the input that successive calls to
+   * {@link Matcher#find()} would find.  Large inputs are split into chunks
+   * that are searched concurrently on {@code executor}.
+   *
+   * @param input the input to search
+   * @param executor the executor on which to search the chunks
+   */
+  public int count(CharSequence input, ExecutorService executor) {
+    ParallelSearch s = new ParallelSearch(re2, input);
+    return s.findAll(executor, s.defaultChunks()).length / 2;
+  }
+
+  /**
+   * Returns the number of matches in the UTF-8 input that successive calls
+   * to {@link Matcher#find()} would find.  Large inputs are split into
+   * chunks that are searched concurrently on {@code executor}.
+   *
+   * @param input the input to search
+   * @param executor the executor on which to search the chunks
+   */
+  public int count(byte[] input, ExecutorService executor) {
+    ParallelSearch s = new ParallelSearch(re2, input);
+    return s.findAll(executor, s.defaultChunks()).length / 2;
+  }
+
+  /**
+   * Returns the input with every match replaced by {@code replacement}, as
+   * {@link Matcher#replaceAll} would return it.  For large inputs the
+   * matches are found, and the replaced text built, concurrently on
+   * {@code executor}.
+   *
+   * @param input the input to search
+   * @param replacement the replacement string, interpreted as for
+   *   {@link Matcher#appendReplacement}
+   * @param executor the executor on which to do the work
+   * @throws IndexOutOfBoundsException if replacement refers to an invalid group
+   */
+  public String replaceAll(CharSequence input, String replacement,
+                           ExecutorService executor) {
+    ParallelSearch s = new ParallelSearch(re2, input);
+    return s.replaceAll(this, replacement, executor, s.defaultChunks());
+  }
+
+  private static List<int[]> pairs(int[] bounds) {
+    List<int[]> out = new ArrayList<int[]>(bounds.length / 2);
+    for (int i = 0; i < bounds.length; i += 2) {
+      out.add(new int[] {bounds[i], bounds[i + 1]});
+    }
+    return out;
+  }
+
+  /**
+   * Creates a new {@code LineMatcher} that finds the lines of the input
+   * that contain a match of the pattern.
+   *
+   * @param input the text whose lines to search
+   */
+  public LineMatcher lineMatcher(CharSequence input) {
+    return new LineMatcher(this, input);
+  }
+
+  /**
+   * Creates a new {@code LineMatcher} that finds the lines of the UTF-8
+   * input that contain a match of the pattern.
+   *
+   * @param input the text whose lines to search
+   */
+  public LineMatcher lineMatcher(byte[] input) {
+    return new LineMatcher(this, input);
+  }
+
+  /**
+   * Creates a new {@code ChunkMatcher} that finds the matches of the
+   * pattern in UTF-8 text that the caller feeds to it in chunks.
+   */
+  public ChunkMatcher chunkMatcher() {
+    return new ChunkMatcher(this);
+  }
+
+  /**
+   * Creates a new {@code StreamMatcher} that finds the matches of the
+   * pattern in the text read from {@code reader}, reading it incrementally
+   * instead of all at once.
+   *
+   * @param reader the text to search
+   */
+  public StreamMatcher streamMatcher(Reader reader) {
+    return new StreamMatcher(this, reader);
+  }
+
+  /**
+   * Creates a new {@code Matcher} matching the pattern against the input,
+   * recording only the overall match and the specified groups.  Capturing
+   * parentheses for other groups cost nothing during matching; asking the
+   * returned matcher for any other group throws
+   * {@link IllegalArgumentException}.
+   *
+   * @param input the input string
+   * @param groupsNeeded the groups whose positions are needed
+   * @throws IndexOutOfBoundsException if a group is not in
+   *   {@code [0, groupCount()]}
+   */
+  public Matcher matcher(CharSequence input, int... groupsNeeded) {
+    if (groupsNeeded == null) {
+      throw new NullPointerException("groupsNeeded is null");
+    }
+    return new Matcher(this, input, groupsNeeded);
+  }
+
   /**
    * Splits input around instances of the regular expression.
    * It returns an array giving the strings that occur before, between, and after instances
@@ -259,11 +586,113 @@ public final class Pattern implements Serializable {
     return re2.numberOfCapturingGroups();
   }
 
+  /**
+   * Writes {@code patterns} to {@code out} in a compact binary form that
+   * includes their compiled programs, so that {@link #readBundle} can
+   * recreate them without parsing or compiling.  The stream is flushed
+   * but not closed.
+   *
+   * @param out the stream to write to
+   * @param patterns the patterns to write
+   * @throws IOException if writing to {@code out} fails
+   */
+  public static void writeBundle(OutputStream out,
+                                 Collection<Pattern> patterns)
+      throws IOException {
+    DataOutputStream data =
+        new DataOutputStream(new BufferedOutputStream(out));
+    data.writeInt(BUNDLE_MAGIC);
+    CompiledForm.writeVarint(data, patterns.size());
+    for (Pattern p : patterns) {
+      p.writeTo(data);
+    }
+    data.flush();
+  }
+
+  /**
+   * Reads the patterns written by {@link #writeBundle}, in the same order.
+   * The patterns are not parsed or compiled again, and are not added to
+   * any compile cache.  Reads exactly the bytes of the bundle, a few at a
+   * time, so {@code in} should be buffered.  The stream is not closed.
+   *
+   * @param in the stream to read from
+   * @return the patterns
+   * @throws IOException if reading from {@code in} fails, or it does not
+   *   hold a valid bundle
+   */
+  public static List<Pattern> readBundle(InputStream in) throws IOException {
+    DataInputStream data = new DataInputStream(in);
+    int magic = data.readInt();
+    if (magic != BUNDLE_MAGIC) {
+      throw new IOException("not a pattern bundle: " +
+          Integer.toHexString(magic));
+    }
+    int n = CompiledForm.readVarint(data);
+    if (n < 0) {
+      throw new IOException("corrupt pattern bundle: " + n + " patterns");
+    }
+    List<Pattern> patterns = new ArrayList<Pattern>(Math.min(n, 1 << 16));
+    for (int i = 0; i < n; i++) {
+      patterns.add(readFrom(data));
+    }
+    return patterns;
+  }
+
+  // writeTo() writes the pattern, its flags and its compiled form.
+  private void writeTo(DataOutput out) throws IOException {
+    CompiledForm.writeString(out, pattern);
+    CompiledForm.writeVarint(out, flags);
+    CompiledForm.writeRE2(out, re2);
+  }
+
+  // readFrom() reads a pattern written by writeTo().
+  private static Pattern readFrom(DataInput in) throws IOException {
+    String pattern = CompiledForm.readString(in);
+    int flags = CompiledForm.readVarint(in);
+    if ((flags & ~(MULTILINE | DOTALL | CASE_INSENSITIVE | DISABLE_UNICODE_GROUPS)) != 0) {
+      throw new IOException("corrupt compiled form: flags " + flags);
+    }
+    return new Pattern(pattern, flags, CompiledForm.readRE2(in));
+  }
+
+  // Patterns are serialized as a SerializedForm, which carries the
+  // compiled program.
+  Object writeReplace() {
+    return new SerializedForm(this);
+  }
+
   Object readResolve() {
     // The deserialized version will be missing the RE2 instance, so we need to create a new,
-    // compiled version.
+    // compiled version.  (Only streams written before SerializedForm was
+    // introduced contain a Pattern itself.)
     return Pattern.compile(pattern, flags);
   }
 
+  // The serialized form of a Pattern: the output of writeTo().
+  private static final class SerializedForm implements Serializable {
+    private transient Pattern pattern;
+
+    SerializedForm(Pattern pattern) {
+      this.pattern = pattern;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+      out.defaultWriteObject();
+      pattern.writeTo(out);
+    }
+
+    private void readObject(ObjectInputStream in)
+        throws IOException, ClassNotFoundException {
+      in.defaultReadObject();
+      pattern = readFrom(in);
+    }
+
+    Object readResolve() {
+      return pattern;
+    }
+
+    private static final long serialVersionUID = 1;
+  }
+
   private static final long serialVersionUID = 0;
 }
@@ -0,0 +1,232 @@
+// Copyright 2026 Google Inc. All Rights Reserved.
+
+package com.google.re2j;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded cache of compiled patterns, keyed by regular expression and
+ * flags, so that compiling a recurring expression costs a hash lookup
+ * instead of a parse and compilation.  Patterns are immutable and safe
+ * to share between threads, so one cache can serve a whole program.
+ *
+ * <p>The cache is opt-in: call {@link #compile} directly, or install a
+ * cache with {@link Pattern#setCompileCache} to have
+ * {@link Pattern#compile(String)} and {@link Pattern#compile(String, int)}
+ * use it.
+ *
+ * <p>The cache holds at most {@code maxEntries} patterns whose programs
+ * total at most {@code maxWeight} instructions, evicting the least
+ * recently used.  To limit contention it is split into independently
+ * locked segments by key hash, each with its share of the limits, so
+ * eviction order is least recently used within a segment.  A pattern
+ * heavier than a segment's share of the weight is compiled but not
+ * cached.
+ */
+public final class PatternCache {
+
+  private static final int MAX_SEGMENTS = 16;
+
+  // The least share of the weight limit worth a segment of its own: room
+  // for a few small patterns.
+  private static final int MIN_SEGMENT_WEIGHT = 16;
+
+  private final Segment[] segments;
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final AtomicLong evictions = new AtomicLong();
+
+  /**
+   * Creates a cache.
+   *
+   * @param maxEntries the maximum number of patterns held
+   * @param maxWeight the maximum total number of program instructions held
+   * @throws IllegalArgumentException if either limit is not positive
+   */
+  public PatternCache(int maxEntries, long maxWeight) {
+    if (maxEntries <= 0 || maxWeight <= 0) {
+      throw new IllegalArgumentException(
+          "limits must be positive: " + maxEntries + ", " + maxWeight);
+    }
+    int n = 1;
+    while (n < MAX_SEGMENTS && 2 * n <= maxEntries
+           && maxWeight / (2 * n) >= MIN_SEGMENT_WEIGHT) {
+      n *= 2;
+    }
+    // Share the limits out so that they sum to exactly the totals: the
+    // first (limit % n) segments take one more than the rest.
+    segments = new Segment[n];
+    for (int i = 0; i < n; i++) {
+      segments[i] = new Segment(maxEntries / n + (i < maxEntries % n ? 1 : 0),
+                                maxWeight / n + (i < maxWeight % n ? 1 : 0));
+    }
+  }
+
+  /**
+   * Returns the cached pattern for {@code regex} and {@code flags},
+   * compiling and caching it if need be.
+   *
+   * @param regex the regular expression
+   * @param flags as for {@link Pattern#compile(String, int)}
+   * @throws PatternSyntaxException if the regular expression is malformed
+   * @throws IllegalArgumentException if an unknown flag is given
+   */
+  public Pattern compile(String regex, int flags) {
+    if (regex == null) {
+      throw new NullPointerException("regex is null");
+    }
+    Key key = new Key(regex, flags);
+    Segment segment = segments[spread(key.hashCode()) & (segments.length - 1)];
+    Pattern p = segment.get(key);
+    if (p != null) {
+      hits.incrementAndGet();
+      return p;
+    }
+    misses.incrementAndGet();
+    // Compile outside the lock; a racing thread may do the same, and the
+    // last one to finish wins the slot.
+    p = Pattern.compileUncached(regex, flags);
+    evictions.addAndGet(segment.put(key, p));
+    return p;
+  }
+
+  /** Returns the number of compiles answered from the cache. */
+  public long hitCount() {
+    return hits.get();
+  }
+
+  /** Returns the number of compiles that had to compile the pattern. */
+  public long missCount() {
+    return misses.get();
+  }
+
+  /** Returns the number of patterns evicted to keep within the limits. */
+  public long evictionCount() {
+    return evictions.get();
+  }
+
+  /** Returns the number of patterns in the cache. */
+  public int size() {
+    int n = 0;
+    for (Segment s : segments) {
+      n += s.size();
+    }
+    return n;
+  }
+
+  /** Returns the total number of program instructions in the cache. */
+  public long weight() {
+    long w = 0;
+    for (Segment s : segments) {
+      w += s.weight();
+    }
+    return w;
+  }
+
+  /** Removes every pattern from the cache.  Statistics are kept. */
+  public void clear() {
+    for (Segment s : segments) {
+      s.clear();
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "PatternCache{size=" + size() + ", weight=" + weight()
+        + ", hits=" + hitCount() + ", misses=" + missCount()
+        + ", evictions=" + evictionCount() + "}";
+  }
+
+  // weightOf() returns the weight of a pattern: its program size.
+  private static int weightOf(Pattern p) {
+    return p.re2().prog.numInst();
+  }
+
+  // Spreads the hash bits, as keys' low bits can be poorly distributed.
+  private static int spread(int h) {
+    h ^= (h >>> 20) ^ (h >>> 12);
+    return h ^ (h >>> 7) ^ (h >>> 4);
+  }
+
+  private static final class Key {
+    final String regex;
+    final int flags;
+
+    Key(String regex, int flags) {
+      this.regex = regex;
+      this.flags = flags;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key k = (Key) o;
+      return flags == k.flags && regex.equals(k.regex);
+    }
+
+    @Override
+    public int hashCode() {
+      return regex.hashCode() * 31 + flags;
+    }
+  }
+
+  // A least-recently-used map with its own limits, guarded by its monitor.
+  private static final class Segment {
+    private final LinkedHashMap<Key, Pattern> map =
+        new LinkedHashMap<Key, Pattern>(16, 0.75f, /*accessOrder=*/true);
+    private final int maxEntries;
+    private final long maxWeight;
+    private long weight;
+
+    Segment(int maxEntries, long maxWeight) {
+      this.maxEntries = maxEntries;
+      this.maxWeight = maxWeight;
+    }
+
+    synchronized Pattern get(Key key) {
+      return map.get(key);
+    }
+
+    // put() adds |p| unless it alone exceeds the weight limit, then evicts
+    // the least recently used patterns until the segment is within its
+    // limits.  Returns the number evicted.
+    synchronized int put(Key key, Pattern p) {
+      int w = weightOf(p);
+      if (w > maxWeight) {
+        return 0;
+      }
+      Pattern old = map.put(key, p);
+      if (old != null) {
+        weight -= weightOf(old);
+      }
+      weight += w;
+      int evicted = 0;
+      Iterator<Map.Entry<Key, Pattern>> it = map.entrySet().iterator();
+      while (map.size() > maxEntries || weight > maxWeight) {
+        Map.Entry<Key, Pattern> e = it.next();
+        weight -= weightOf(e.getValue());
+        it.remove();
+        evicted++;
+      }
+      return evicted;
+    }
+
+    synchronized int size() {
+      return map.size();
+    }
+
+    synchronized long weight() {
+      return weight;
+    }
+
+    synchronized void clear() {
+      map.clear();
+      weight = 0;
+    }
+  }
+}
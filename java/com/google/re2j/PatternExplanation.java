@@ -0,0 +1,225 @@
+// Copyright 2026 Google Inc. All Rights Reserved.
+
+package com.google.re2j;
+
+/**
+ * A report of how searches with a {@link Pattern} run, and of what drives
+ * their cost, for reviewing patterns before they are deployed.  See
+ * {@link Pattern#explain()}.
+ *
+ * <p>The cost of a search with the matching machine grows with the length
+ * of the input times the number of threads alive at each position, which
+ * is bounded by the instruction count.  A literal prefix lets unanchored
+ * searches skip to the places where a match can start, and an anchored
+ * pattern stops at the first position.
+ *
+ * <p>Instances are immutable.
+ */
+public final class PatternExplanation {
+
+  /** The engines that may run a pattern's searches. */
+  public enum Engine {
+    /**
+     * The pattern is an alternation of literals, found in one pass over
+     * the input by an Aho-Corasick automaton.
+     */
+    KEYWORDS,
+    /** The matching machine, which simulates the program's threads. */
+    MACHINE,
+  }
+
+  private final Pattern pattern;
+  private final Engine engine;
+  private final int instructionCount;
+  private final int boundsInstructionCount;
+  private final int groupCount;
+  private final String literalPrefix;
+  private final boolean prefixComplete;
+  private final int startConditions;
+  private final boolean countedRepetition;
+  private final boolean multiline;
+  private final int automatonNodes;
+  private final long machineBytes;
+  private final long boundsMachineBytes;
+
+  PatternExplanation(Pattern pattern) {
+    this.pattern = pattern;
+    RE2 re2 = pattern.re2();
+    Prog prog = re2.prog;
+    Prog boundsProg = re2.boundsProg();
+    this.engine = re2.literals != null ? Engine.KEYWORDS : Engine.MACHINE;
+    this.instructionCount = prog.numInst();
+    this.boundsInstructionCount = boundsProg.numInst();
+    this.groupCount = re2.numberOfCapturingGroups();
+    this.literalPrefix = re2.prefix;
+    this.prefixComplete = re2.prefixComplete;
+    this.startConditions = re2.cond == Utils.EMPTY_ALL ? 0 : re2.cond;
+    this.countedRepetition = prog.hasCount();
+    this.multiline = prog.canMatchNewline();
+    this.automatonNodes = re2.literals != null ? re2.literals.numNodes() : 0;
+    this.machineBytes = Machine.estimateBytes(prog, prog.numCap);
+    this.boundsMachineBytes = Machine.estimateBytes(boundsProg, 2);
+  }
+
+  /** Returns the pattern explained. */
+  public Pattern pattern() {
+    return pattern;
+  }
+
+  /** Returns the engine that runs searches. */
+  public Engine engine() {
+    return engine;
+  }
+
+  /** Returns the number of instructions in the pattern's program. */
+  public int instructionCount() {
+    return instructionCount;
+  }
+
+  /**
+   * Returns the number of instructions in the smaller program run by
+   * searches that need no capturing group, such as
+   * {@link Matcher#matches()} or a search for the bounds of a match.
+   */
+  public int boundsInstructionCount() {
+    return boundsInstructionCount;
+  }
+
+  /** Returns the number of capturing groups. */
+  public int groupCount() {
+    return groupCount;
+  }
+
+  /**
+   * Returns the literal text every match starts with, or the empty string
+   * if there is none.  Unanchored searches skip ahead to its occurrences.
+   */
+  public String literalPrefix() {
+    return literalPrefix;
+  }
+
+  /** Reports whether the literal prefix is the whole of every match. */
+  public boolean isPrefixComplete() {
+    return prefixComplete;
+  }
+
+  /**
+   * Returns the empty-width conditions that hold where every match
+   * starts, such as {@code begin_text} or {@code word_boundary},
+   * separated by spaces, or the empty string if there are none.
+   */
+  public String startConditions() {
+    return conditions(startConditions);
+  }
+
+  /**
+   * Reports whether every match starts at the beginning of the input, so
+   * that a search looks no further than its first position.
+   */
+  public boolean isAnchoredStart() {
+    return (startConditions & Utils.EMPTY_BEGIN_TEXT) != 0;
+  }
+
+  /**
+   * Reports whether the program counts a large repetition of a single
+   * character, such as {@code [a-z]{1,1000}}, rather than expanding it.
+   * Each count reached is a separate thread.
+   */
+  public boolean hasCountedRepetition() {
+    return countedRepetition;
+  }
+
+  /**
+   * Reports whether a match may span lines.  A {@link LineMatcher} can
+   * search a whole text at once only for patterns that cannot.
+   */
+  public boolean canMatchNewline() {
+    return multiline;
+  }
+
+  /**
+   * Returns the number of states of the automaton that runs the pattern
+   * if its engine is {@link Engine#KEYWORDS}, else 0.
+   */
+  public int automatonNodes() {
+    return automatonNodes;
+  }
+
+  /**
+   * Returns a rough estimate of the bytes held by each matching machine
+   * that tracks every capturing group, once it has run its largest
+   * match.  A pattern keeps one such machine for each search that runs
+   * concurrently.
+   */
+  public long estimatedMachineBytes() {
+    return machineBytes;
+  }
+
+  /**
+   * Returns a rough estimate of the bytes held by each matching machine
+   * that runs the program without capturing groups.
+   */
+  public long estimatedBoundsMachineBytes() {
+    return boundsMachineBytes;
+  }
+
+  // conditions() returns the names of the EMPTY_* flags in |cond|.
+  private static String conditions(int cond) {
+    String[] names = {
+      "begin_line", "end_line", "begin_text", "end_text", "word_boundary",
+      "no_word_boundary",
+    };
+    StringBuilder out = new StringBuilder();
+    for (int i = 0; i < names.length; i++) {
+      if ((cond & 1 << i) != 0) {
+        if (out.length() > 0) {
+          out.append(' ');
+        }
+        out.append(names[i]);
+      }
+    }
+    return out.toString();
+  }
+
+  /** Returns a multi-line report of everything above. */
+  @Override
+  public String toString() {
+    StringBuilder out = new StringBuilder();
+    out.append("pattern: ").append(pattern).append('\n');
+    out.append("engine: ").append(engine);
+    if (engine == Engine.KEYWORDS) {
+      out.append(" (").append(automatonNodes).append(" states)");
+    }
+    out.append('\n');
+    out.append("instructions: ").append(instructionCount)
+        .append(" (").append(boundsInstructionCount)
+        .append(" without captures)\n");
+    out.append("groups: ").append(groupCount).append('\n');
+    out.append("literal prefix: ");
+    if (literalPrefix.isEmpty()) {
+      out.append("none");
+    } else {
+      out.append('"');
+      for (int i = 0; i < literalPrefix.length(); ) {
+        int r = literalPrefix.codePointAt(i);
+        Utils.escapeRune(out, r);
+        i += Character.charCount(r);
+      }
+      out.append('"');
+      if (prefixComplete) {
+        out.append(" (complete)");
+      }
+    }
+    out.append('\n');
+    out.append("start conditions: ")
+        .append(startConditions == 0 ? "none" : conditions(startConditions))
+        .append('\n');
+    out.append("anchored: ").append(isAnchoredStart()).append('\n');
+    out.append("counted repetition: ").append(countedRepetition).append('\n');
+    out.append("can match newline: ").append(multiline).append('\n');
+    out.append("bytes per machine: ").append(machineBytes)
+        .append(" (").append(boundsMachineBytes)
+        .append(" without captures)\n");
+    return out.toString();
+  }
+}
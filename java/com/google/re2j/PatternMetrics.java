@@ -0,0 +1,162 @@
+// Copyright 2026 Google Inc. All Rights Reserved.
+
+package com.google.re2j;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runtime statistics of a {@link Pattern}, for finding the patterns that
+ * cost the most to run.  Collection is opt-in, per pattern: call
+ * {@link Pattern#enableMetrics()}.  A pattern without metrics pays
+ * nothing for them beyond one field read per search.
+ *
+ * <p>Every search counts: each {@code find()}, {@code matches()},
+ * {@code lookingAt()} and so on.  Streaming searches are not counted.
+ * The counters are updated atomically but independently, so a snapshot
+ * taken during searches may be slightly inconsistent.
+ *
+ * <p>A {@link SlowMatchListener} installed with
+ * {@link #setSlowMatchListener} hears of every search of a pattern with
+ * metrics that takes longer than a threshold.
+ */
+public final class PatternMetrics {
+
+  private static volatile SlowMatchListener slowMatchListener;
+  private static volatile long slowMatchNanos = Long.MAX_VALUE;
+
+  private final Pattern pattern;
+  private final AtomicLong executions = new AtomicLong();
+  private final AtomicLong matches = new AtomicLong();
+  private final AtomicLong inputUnits = new AtomicLong();
+  private final AtomicLong steps = new AtomicLong();
+  private final AtomicLong threads = new AtomicLong();
+  private final AtomicLong prefixSkips = new AtomicLong();
+  private final AtomicLong nanos = new AtomicLong();
+  private final AtomicLong maxNanos = new AtomicLong();
+
+  PatternMetrics(Pattern pattern) {
+    this.pattern = pattern;
+  }
+
+  /**
+   * Installs {@code listener} to be told of every search of a pattern with
+   * metrics that takes longer than {@code threshold}, replacing any
+   * listener installed before.  The listener runs on the searching
+   * thread, so it should be quick.
+   *
+   * @param listener the listener, or null to remove it
+   * @param threshold the least duration reported
+   * @param unit the unit of {@code threshold}
+   */
+  public static void setSlowMatchListener(SlowMatchListener listener,
+                                          long threshold, TimeUnit unit) {
+    slowMatchNanos =
+        listener == null ? Long.MAX_VALUE : unit.toNanos(threshold);
+    slowMatchListener = listener;
+  }
+
+  /** Returns the pattern these are the metrics of. */
+  public Pattern pattern() {
+    return pattern;
+  }
+
+  /** Returns the number of searches run. */
+  public long executions() {
+    return executions.get();
+  }
+
+  /** Returns the number of searches that found a match. */
+  public long matches() {
+    return matches.get();
+  }
+
+  /**
+   * Returns the number of input units (chars, or bytes for UTF-8 input)
+   * the searches stepped over, not counting those skipped by searching
+   * for a literal prefix.
+   */
+  public long inputUnits() {
+    return inputUnits.get();
+  }
+
+  /**
+   * Returns the number of instructions the matching machine ran for its
+   * threads: the work of the searches, independent of the input length.
+   */
+  public long steps() {
+    return steps.get();
+  }
+
+  /** Returns the number of threads the matching machine started. */
+  public long threads() {
+    return threads.get();
+  }
+
+  /**
+   * Returns the number of times a search skipped ahead to the next
+   * occurrence of the pattern's literal prefix.
+   */
+  public long prefixSkips() {
+    return prefixSkips.get();
+  }
+
+  /** Returns the total time spent searching, in nanoseconds. */
+  public long totalNanos() {
+    return nanos.get();
+  }
+
+  /** Returns the time taken by the slowest search, in nanoseconds. */
+  public long maxNanos() {
+    return maxNanos.get();
+  }
+
+  /** Sets every counter to zero. */
+  public void reset() {
+    executions.set(0);
+    matches.set(0);
+    inputUnits.set(0);
+    steps.set(0);
+    threads.set(0);
+    prefixSkips.set(0);
+    nanos.set(0);
+    maxNanos.set(0);
+  }
+
+  // record() adds a search that took |elapsed| nanoseconds over an input
+  // of |inputLength| units.  The machine counts are those of |m|, or zero
+  // if it is null.
+  void record(long elapsed, int inputLength, boolean matched,
+              long scanned, Machine m) {
+    executions.incrementAndGet();
+    if (matched) {
+      matches.incrementAndGet();
+    }
+    inputUnits.addAndGet(scanned);
+    if (m != null) {
+      steps.addAndGet(m.steps);
+      threads.addAndGet(m.threads);
+      prefixSkips.addAndGet(m.prefixSkips);
+    }
+    nanos.addAndGet(elapsed);
+    for (long max = maxNanos.get();
+         elapsed > max && !maxNanos.compareAndSet(max, elapsed);
+         max = maxNanos.get()) {
+    }
+    if (elapsed >= slowMatchNanos) {
+      SlowMatchListener listener = slowMatchListener;
+      if (listener != null) {
+        listener.slowMatch(pattern, inputLength, elapsed);
+      }
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "PatternMetrics{pattern=" + pattern + ", executions=" +
+        executions() + ", matches=" + matches() + ", inputUnits=" +
+        inputUnits() + ", steps=" + steps() + ", threads=" + threads() +
+        ", prefixSkips=" + prefixSkips() + ", totalNanos=" + totalNanos() +
+        ", maxNanos=" + maxNanos() + "}";
+  }
+}
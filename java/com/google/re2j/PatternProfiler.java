@@ -0,0 +1,226 @@
+// Copyright 2026 Google Inc. All Rights Reserved.
+
+package com.google.re2j;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A profiler that shows which parts of a {@link Pattern} do the work of
+ * its searches, for tuning expensive patterns.  It runs searches on the
+ * pattern's program, counting how often the matching machine visits each
+ * instruction, and reports the counts by program counter, as numbered in
+ * {@link #program()}, and by the part of the regular expression each
+ * instruction was compiled from.
+ *
+ * <p>The profiler always runs the matching machine, with all capture
+ * slots, even when searches with the pattern would take a cheaper path,
+ * so that every search is seen in full.
+ *
+ * <p>Instances are not safe for use by multiple threads.
+ */
+public final class PatternProfiler {
+
+  private final Pattern pattern;
+  private final Regexp re;  // as compiled to |prog|
+  private final Prog prog;
+  private final Machine machine;
+  private final int[] visits;
+  private int searches;
+
+  PatternProfiler(Pattern pattern) {
+    this.pattern = pattern;
+    RE2 re2 = pattern.re2();
+    // Compile the pattern again as it was compiled, recording sources.
+    re = Simplify.simplify(
+        Parser.parse(re2.expr, Pattern.re2Flags(pattern.flags())));
+    prog = Compiler.compileRegexp(re, true).optimize();
+    RE2 profiled =
+        new RE2(re2.expr, prog, re2.cond, re2.numSubexp, re2.longest);
+    profiled.setPrefix(re2.prefix, re2.prefixComplete);
+    machine = new Machine(profiled);
+    visits = new int[prog.numInst()];
+    machine.visits = visits;
+  }
+
+  /** Returns the pattern being profiled. */
+  public Pattern pattern() {
+    return pattern;
+  }
+
+  /**
+   * Finds every match in {@code input}, much as successive calls to
+   * {@link Matcher#find()} would, and returns the number found.
+   */
+  public int find(CharSequence input) {
+    MachineInput in = MachineInput.fromUTF16(input);
+    int end = in.endPos();
+    int n = 0;
+    for (int pos = 0; pos <= end; ) {
+      if (!run(in, pos, RE2.UNANCHORED)) {
+        break;
+      }
+      n++;
+      int[] cap = machine.submatches();
+      if (cap[1] > cap[0]) {
+        pos = cap[1];
+      } else if (cap[1] < end) {
+        pos = cap[1] + (in.step(cap[1]) & 7);
+      } else {
+        break;
+      }
+    }
+    return n;
+  }
+
+  /**
+   * Reports whether the whole of {@code input} matches, as
+   * {@link Matcher#matches()} would.
+   */
+  public boolean matches(CharSequence input) {
+    return run(MachineInput.fromUTF16(input), 0, RE2.ANCHOR_BOTH);
+  }
+
+  // run() runs one search of |in| from |pos| with the RE2 anchor |anchor|.
+  private boolean run(MachineInput in, int pos, int anchor) {
+    searches++;
+    machine.init(prog.numCap);
+    return machine.match(in, pos, anchor);
+  }
+
+  /** Returns the number of searches run since the last reset. */
+  public int searches() {
+    return searches;
+  }
+
+  /**
+   * Returns a listing of the program run, one instruction per line,
+   * preceded by its program counter.
+   */
+  public String program() {
+    return prog.toString();
+  }
+
+  /** Returns the number of instructions in the program. */
+  public int numInst() {
+    return visits.length;
+  }
+
+  /**
+   * Returns the number of times the machine visited the instruction at
+   * {@code pc}: the number of threads that reached it.
+   */
+  public int visits(int pc) {
+    return visits[pc];
+  }
+
+  /** Returns the total number of instruction visits. */
+  public long totalVisits() {
+    long total = 0;
+    for (int v : visits) {
+      total += v;
+    }
+    return total;
+  }
+
+  /**
+   * Returns the part of the regular expression, in simplified form, that
+   * the instruction at {@code pc} was compiled from, or null for the
+   * instructions that belong to none.
+   */
+  public String source(int pc) {
+    Regexp re = prog.getInst(pc).source;
+    return re == null ? null : re.toString();
+  }
+
+  /**
+   * Returns the most threads the machine ran in one step of a search: the
+   * high-water mark of its thread queues.
+   */
+  public int maxQueueSize() {
+    return machine.maxQueue;
+  }
+
+  /** Sets every count to zero. */
+  public void reset() {
+    Arrays.fill(visits, 0);
+    machine.maxQueue = 0;
+    searches = 0;
+  }
+
+  /**
+   * Returns a report of the counts: the visits of each instruction, then
+   * the visits of each part of the regular expression, most visited first.
+   */
+  @Override
+  public String toString() {
+    long total = totalVisits();
+    StringBuilder out = new StringBuilder();
+    out.append("profile of ").append(pattern).append(": ").append(searches)
+        .append(" searches, ").append(total)
+        .append(" visits, queue high-water mark ").append(machine.maxQueue)
+        .append('\n');
+    for (int pc = 0; pc < visits.length; pc++) {
+      Inst inst = prog.getInst(pc);
+      String label = pc + (pc == prog.start ? "*" : "");
+      out.append(String.format("%-6s%10d %6s  ",
+                               label, visits[pc], percent(visits[pc], total)));
+      if (inst.source == null) {
+        out.append(inst).append('\n');
+      } else {
+        out.append(String.format("%-24s %s\n", inst, inst.source));
+      }
+    }
+
+    // Sum the visits of the instructions of each node.
+    Map<Regexp, Long> self = new IdentityHashMap<Regexp, Long>();
+    for (int pc = 0; pc < visits.length; pc++) {
+      Regexp re = prog.getInst(pc).source;
+      if (re != null) {
+        Long sum = self.get(re);
+        self.put(re, (sum == null ? 0 : sum) + visits[pc]);
+      }
+    }
+    out.append("by source, including subexpressions:\n");
+    appendTree(out, re, 0, self, total);
+    return out.toString();
+  }
+
+  // appendTree() appends to |out| a line for |re| and for each of its
+  // subexpressions, indented by depth, with the visits of its instructions
+  // and theirs.  It returns those visits, or -1 (and appends nothing) if
+  // none of the instructions came from |re| or its subexpressions.
+  private static long appendTree(StringBuilder out, Regexp re, int depth,
+                                 Map<Regexp, Long> self, long total) {
+    int len = out.length();
+    Long own = self.get(re);
+    long sum = own == null ? -1 : own;
+    if (re.subs != null) {
+      for (Regexp sub : re.subs) {
+        long v = appendTree(out, sub, depth + 1, self, total);
+        if (v >= 0) {
+          sum = Math.max(sum, 0) + v;
+        }
+      }
+    }
+    if (sum >= 0) {
+      StringBuilder line = new StringBuilder();
+      line.append(String.format("%10d %6s  ", sum, percent(sum, total)));
+      for (int i = 0; i < depth; i++) {
+        line.append("  ");
+      }
+      line.append(re).append('\n');
+      out.insert(len, line);
+    }
+    return sum;
+  }
+
+  // percent() formats |part| as a percentage of |total|.
+  private static String percent(long part, long total) {
+    return total == 0
+        ? "-"
+        : String.format(Locale.ROOT, "%.1f%%", 100.0 * part / total);
+  }
+}
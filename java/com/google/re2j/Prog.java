@@ -8,6 +8,7 @@
 package com.google.re2j;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -34,6 +35,16 @@ class Prog {
     return inst.size();
   }
 
+  // hasCount() reports whether the program has a RUNE_COUNT instruction.
+  boolean hasCount() {
+    for (Inst i : inst) {
+      if (i.op == Inst.Op.RUNE_COUNT) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   // Adds a new instruction to this program, with operator |op| and |pc| equal
   // to |numInst()|.
   void addInst(Inst.Op op) {
@@ -97,6 +108,333 @@ class Prog {
     return flag;
   }
 
+  // withoutCaptures() returns an equivalent program with every CAPTURE and
+  // NOP instruction removed, for use when no submatch other than the
+  // overall match (which the Machine tracks itself) is needed.  Links are
+  // threaded through the removed instructions and the surviving reachable
+  // instructions are renumbered, so the result is smaller and its
+  // epsilon-closures are shorter.
+  Prog withoutCaptures() {
+    int n = inst.size();
+    int[] newPc = new int[n];
+    Arrays.fill(newPc, -1);
+    Prog p = new Prog();
+    p.numCap = 2;
+    p.addInst(Inst.Op.FAIL);  // pc 0 stays the fail instruction
+    newPc[0] = 0;
+    // Assign new pcs in depth-first order, then patch links.
+    int[] stack = new int[n];
+    int sp = 0;
+    int start = skipCaptures(this.start);
+    stack[sp++] = start;
+    List<Integer> order = new ArrayList<Integer>();
+    while (sp > 0) {
+      int pc = stack[--sp];
+      if (newPc[pc] >= 0) {
+        continue;
+      }
+      newPc[pc] = p.numInst();
+      order.add(pc);
+      Inst i = inst.get(pc);
+      p.addInst(i.op);
+      switch (i.op) {
+        case ALT:
+        case ALT_MATCH:
+          stack[sp++] = skipCaptures(i.arg);
+          stack[sp++] = skipCaptures(i.out);
+          break;
+        case MATCH:
+        case FAIL:
+          break;
+        default:
+          stack[sp++] = skipCaptures(i.out);
+          break;
+      }
+      if (sp + 2 > stack.length) {
+        stack = Arrays.copyOf(stack, 2 * stack.length);
+      }
+    }
+    for (int pc : order) {
+      Inst i = inst.get(pc);
+      Inst j = p.getInst(newPc[pc]);
+      j.runes = i.runes;
+      j.arg = i.arg;
+      j.max = i.max;
+      j.nonGreedy = i.nonGreedy;
+      j.source = i.source;
+      switch (i.op) {
+        case ALT:
+        case ALT_MATCH:
+          j.arg = newPc[skipCaptures(i.arg)];
+          j.out = newPc[skipCaptures(i.out)];
+          break;
+        case MATCH:
+        case FAIL:
+          break;
+        default:
+          j.out = newPc[skipCaptures(i.out)];
+          break;
+      }
+    }
+    p.start = newPc[start];
+    return p;
+  }
+
+  // optimize() returns an equivalent program that is cheaper to run.
+  // Links are threaded through NOP instructions; an ALT whose branches
+  // each consume a single rune and then continue at the same instruction
+  // becomes one RUNE instruction matching either rune; and the
+  // instructions still reachable are renumbered in their original order.
+  // (Merging branches loses nothing: both would add the same thread.)
+  Prog optimize() {
+    int n = inst.size();
+    Inst[] code = new Inst[n];
+    for (int pc = 0; pc < n; pc++) {
+      Inst i = inst.get(pc);
+      Inst j = new Inst(i.op);
+      j.out = i.out;
+      j.arg = i.arg;
+      j.runes = i.runes;
+      j.max = i.max;
+      j.nonGreedy = i.nonGreedy;
+      j.source = i.source;
+      code[pc] = j;
+    }
+
+    // Thread links through NOPs.
+    for (Inst i : code) {
+      switch (i.op) {
+        case MATCH:
+        case FAIL:
+          break;
+        case ALT:
+        case ALT_MATCH:
+          i.arg = skipNops(code, i.arg);
+          i.out = skipNops(code, i.out);
+          break;
+        default:
+          i.out = skipNops(code, i.out);
+          break;
+      }
+    }
+    int start = skipNops(code, this.start);
+
+    // Merge single-rune alternatives.  An ALT is compiled after its
+    // branches, so one pass in pc order merges a chain from the inside out.
+    for (boolean changed = true; changed; ) {
+      changed = false;
+      for (Inst i : code) {
+        if (i.op != Inst.Op.ALT) {
+          continue;
+        }
+        Inst x = code[i.out];
+        Inst y = code[i.arg];
+        if (x.out == y.out && isSingleRune(x) && isSingleRune(y)) {
+          i.runes = union(x.runes, y.runes);
+          i.op = runeOp(i.runes);
+          i.out = x.out;
+          i.arg = 0;
+          changed = true;
+        }
+      }
+    }
+
+    // Renumber the reachable instructions; pc 0 stays the fail instruction.
+    boolean[] reachable = new boolean[n];
+    reachable[0] = true;
+    int[] stack = new int[n];
+    int sp = 0;
+    stack[sp++] = start;
+    while (sp > 0) {
+      int pc = stack[--sp];
+      if (reachable[pc]) {
+        continue;
+      }
+      reachable[pc] = true;
+      Inst i = code[pc];
+      switch (i.op) {
+        case ALT:
+        case ALT_MATCH:
+          stack[sp++] = i.arg;
+          stack[sp++] = i.out;
+          break;
+        case MATCH:
+        case FAIL:
+          break;
+        default:
+          stack[sp++] = i.out;
+          break;
+      }
+      if (sp + 2 > stack.length) {
+        stack = Arrays.copyOf(stack, 2 * stack.length);
+      }
+    }
+    int[] newPc = new int[n];
+    Prog p = new Prog();
+    p.numCap = numCap;
+    for (int pc = 0; pc < n; pc++) {
+      if (reachable[pc]) {
+        newPc[pc] = p.numInst();
+        p.inst.add(code[pc]);
+      }
+    }
+    for (Inst i : p.inst) {
+      switch (i.op) {
+        case MATCH:
+        case FAIL:
+          break;
+        case ALT:
+        case ALT_MATCH:
+          i.arg = newPc[i.arg];
+          i.out = newPc[i.out];
+          break;
+        default:
+          i.out = newPc[i.out];
+          break;
+      }
+    }
+    p.start = newPc[start];
+    return p;
+  }
+
+  // skipNops() follows any no-op instructions in |code| from |pc| and
+  // returns the pc of the resulting instruction.
+  private static int skipNops(Inst[] code, int pc) {
+    // (Every loop in a program passes through an ALT, so this terminates.)
+    while (code[pc].op == Inst.Op.NOP) {
+      pc = code[pc].out;
+    }
+    return pc;
+  }
+
+  // isSingleRune() reports whether |i| consumes one rune from a set given
+  // by its runes alone.
+  private static boolean isSingleRune(Inst i) {
+    switch (i.op) {
+      case RUNE:
+        return i.runes.length != 1 || (i.arg & RE2.FOLD_CASE) == 0;
+      case RUNE1:
+      case RUNE_ANY:
+      case RUNE_ANY_NOT_NL:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  // union() returns the union of the runes of two instructions as a sorted
+  // list of [lo, hi] pairs, or a single rune.
+  private static int[] union(int[] x, int[] y) {
+    if (x.length == 1) {
+      x = new int[] { x[0], x[0] };
+    }
+    if (y.length == 1) {
+      y = new int[] { y[0], y[0] };
+    }
+    int[] runes = new int[x.length + y.length];
+    int n = 0;
+    for (int i = 0, j = 0; i < x.length || j < y.length; ) {
+      int lo, hi;
+      if (j == y.length || i < x.length && x[i] <= y[j]) {
+        lo = x[i++];
+        hi = x[i++];
+      } else {
+        lo = y[j++];
+        hi = y[j++];
+      }
+      if (n > 0 && lo <= runes[n - 1] + 1) {
+        runes[n - 1] = Math.max(runes[n - 1], hi);
+      } else {
+        runes[n++] = lo;
+        runes[n++] = hi;
+      }
+    }
+    if (n == 2 && runes[0] == runes[1]) {
+      return new int[] { runes[0] };
+    }
+    return Arrays.copyOf(runes, n);
+  }
+
+  // runeOp() returns the cheapest rune instruction for matching |runes|,
+  // as Compiler chooses it.
+  private static Inst.Op runeOp(int[] runes) {
+    if (runes.length == 1) {
+      return Inst.Op.RUNE1;
+    }
+    if (runes.length == 2 && runes[0] == 0 && runes[1] == Unicode.MAX_RUNE) {
+      return Inst.Op.RUNE_ANY;
+    }
+    if (runes.length == 4 && runes[0] == 0 && runes[1] == '\n' - 1 &&
+        runes[2] == '\n' + 1 && runes[3] == Unicode.MAX_RUNE) {
+      return Inst.Op.RUNE_ANY_NOT_NL;
+    }
+    return Inst.Op.RUNE;
+  }
+
+  // canMatchNewline() reports whether any instruction can consume '\n', so
+  // that a match may span lines.
+  boolean canMatchNewline() {
+    for (Inst i : inst) {
+      switch (i.op) {
+        case RUNE_ANY:
+          return true;
+        case RUNE:
+        case RUNE1:
+        case RUNE_COUNT:
+          if (i.matchRune('\n')) {
+            return true;
+          }
+          break;
+        default:
+          break;
+      }
+    }
+    return false;
+  }
+
+  // withLineAnchors() returns a copy of the program in which the beginning
+  // and end of text conditions are relaxed to the beginning and end of
+  // line.  For a program that cannot match '\n', running the copy over a
+  // whole text finds the matches that the original would find in each line
+  // of it on its own.
+  Prog withLineAnchors() {
+    Prog p = new Prog();
+    p.start = start;
+    p.numCap = numCap;
+    for (Inst i : inst) {
+      Inst j = new Inst(i.op);
+      j.out = i.out;
+      j.arg = i.arg;
+      j.runes = i.runes;
+      j.max = i.max;
+      j.nonGreedy = i.nonGreedy;
+      j.source = i.source;
+      if (i.op == Inst.Op.EMPTY_WIDTH) {
+        if ((j.arg & Utils.EMPTY_BEGIN_TEXT) != 0) {
+          j.arg = j.arg & ~Utils.EMPTY_BEGIN_TEXT | Utils.EMPTY_BEGIN_LINE;
+        }
+        if ((j.arg & Utils.EMPTY_END_TEXT) != 0) {
+          j.arg = j.arg & ~Utils.EMPTY_END_TEXT | Utils.EMPTY_END_LINE;
+        }
+      }
+      p.inst.add(j);
+    }
+    return p;
+  }
+
+  // skipCaptures() follows any no-op or capturing instructions from |pc|
+  // and returns the pc of the resulting instruction.
+  private int skipCaptures(int pc) {
+    // (Every loop in a program passes through an ALT, so this terminates.)
+    for (;;) {
+      Inst i = inst.get(pc);
+      if (i.op != Inst.Op.NOP && i.op != Inst.Op.CAPTURE) {
+        return pc;
+      }
+      pc = i.out;
+    }
+  }
+
   // --- Patch list ---
 
   // A patchlist is a list of instruction pointers that need to be filled in
@@ -19,6 +19,7 @@
 package com.google.re2j;
 
 import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -109,10 +110,27 @@ class RE2 {
   boolean prefixComplete;       // true iff prefix is the entire regexp
   int prefixRune;               // first rune in prefix
 
+  // An automaton that runs instead of the machine when the regexp is an
+  // alternation of literals, or null.
+  AhoCorasick literals;
+
+  // The metrics of the Pattern running |this|, or null if it has none.
+  volatile PatternMetrics metrics;
+
   // Cache of machines for running regexp.
   // Accesses must be serialized using |this| monitor.
   private final List<Machine> machine = new ArrayList<Machine>();
 
+  // |prog| without CAPTURE and NOP instructions, built on first use by
+  // executions that need at most the overall match bounds, and its cache
+  // of machines.  Both guarded by |this| monitor.
+  private Prog boundsProg;
+  private final List<Machine> boundsMachine = new ArrayList<Machine>();
+
+  // The line-at-a-time variant of |this|; see lineRE2().  Guarded by |this|
+  // monitor.
+  private RE2 lineRE2;
+
   // This is visible for testing.
   RE2(String expr) {
     RE2 re2 = RE2.compile(expr);
@@ -129,10 +147,15 @@ class RE2 {
   }
 
   private RE2(String expr, Prog prog, int numSubexp, boolean longest) {
+    this(expr, prog, prog.startCond(), numSubexp, longest);
+  }
+
+  // Used by CompiledForm, which stores |cond| with the program.
+  RE2(String expr, Prog prog, int cond, int numSubexp, boolean longest) {
     this.expr = expr;
     this.prog = prog;
     this.numSubexp = numSubexp;
-    this.cond = prog.startCond();
+    this.cond = cond;
     this.longest = longest;
   }
 
@@ -183,20 +206,27 @@ class RE2 {
     Regexp re = Parser.parse(expr, mode);
     int maxCap = re.maxCap();  // (may shrink during simplify)
     re = Simplify.simplify(re);
-    Prog prog = Compiler.compileRegexp(re);
+    Prog prog = Compiler.compileRegexp(re).optimize();
     RE2 re2 = new RE2(expr, prog, maxCap, longest);
     StringBuilder prefixBuilder = new StringBuilder();
-    re2.prefixComplete = prog.prefix(prefixBuilder);
-    re2.prefix = prefixBuilder.toString();
+    boolean prefixComplete = prog.prefix(prefixBuilder);
+    re2.setPrefix(prefixBuilder.toString(), prefixComplete);
+    re2.literals = AhoCorasick.forRegexp(re);
+    return re2;
+  }
+
+  // setPrefix() sets the required prefix and the fields derived from it.
+  void setPrefix(String prefix, boolean prefixComplete) {
+    this.prefix = prefix;
+    this.prefixComplete = prefixComplete;
     try {
-      re2.prefixUTF8 = re2.prefix.getBytes("UTF-8");
+      this.prefixUTF8 = prefix.getBytes("UTF-8");
     } catch (UnsupportedEncodingException e) {
       throw new IllegalStateException("can't happen");
     }
-    if (!re2.prefix.isEmpty()) {
-      re2.prefixRune = re2.prefix.codePointAt(0);
+    if (!prefix.isEmpty()) {
+      this.prefixRune = prefix.codePointAt(0);
     }
-    return re2;
   }
 
   /**
@@ -207,9 +237,35 @@ class RE2 {
     return numSubexp;
   }
 
-  // get() returns a machine to use for matching |this|.  It uses |this|'s
-  // machine cache if possible, to avoid unnecessary allocation.
-  synchronized Machine get() {
+  // lineRE2() returns an RE2 that finds, in a whole text, the matches that
+  // |this| finds in each line of it on its own, or null if a match of
+  // |this| may span lines.  Used by LineMatcher and FileMatcher.
+  synchronized RE2 lineRE2() {
+    if (lineRE2 == null && !prog.canMatchNewline()) {
+      RE2 re2 = new RE2(expr, prog.withLineAnchors(), numSubexp, longest);
+      re2.prefix = prefix;
+      re2.prefixUTF8 = prefixUTF8;
+      re2.prefixComplete = prefixComplete;
+      re2.prefixRune = prefixRune;
+      re2.literals = literals;
+      re2.metrics = metrics;
+      lineRE2 = re2;
+    }
+    return lineRE2;
+  }
+
+  // get() returns a machine to use for matching |this| while tracking
+  // |ncap| capture slots.  It uses |this|'s machine cache if possible, to
+  // avoid unnecessary allocation.  When |ncap| is at most 2 the machine
+  // runs the capture-free program.
+  synchronized Machine get(int ncap) {
+    if (ncap <= 2) {
+      int n = boundsMachine.size();
+      if (n > 0) {
+        return boundsMachine.remove(n - 1);
+      }
+      return new Machine(this, boundsProg());
+    }
     int n = machine.size();
     if (n > 0) {
       return machine.remove(n - 1);
@@ -217,17 +273,31 @@ class RE2 {
     return new Machine(this);
   }
 
+  // boundsProg() returns the program run by machines that track at most
+  // the overall match bounds.
+  synchronized Prog boundsProg() {
+    if (boundsProg == null) {
+      boundsProg = prog.withoutCaptures().optimize();
+    }
+    return boundsProg;
+  }
+
   // Clears the memory associated with this machine.
   synchronized void reset() {
     machine.clear();
+    boundsMachine.clear();
   }
 
-  // put() returns a machine to |this|'s machine cache.  There is no attempt to
-  // limit the size of the cache, so it will grow to the maximum number of
-  // simultaneous matches run using |this|.  (The cache empties when |this|
-  // gets garbage collected.)
-  synchronized void put(Machine m) {
-    machine.add(m);
+  // put() returns a machine obtained by get(ncap) to |this|'s machine
+  // cache.  There is no attempt to limit the size of the cache, so it will
+  // grow to the maximum number of simultaneous matches run using |this|.
+  // (The cache empties when |this| gets garbage collected.)
+  synchronized void put(Machine m, int ncap) {
+    if (ncap <= 2) {
+      boundsMachine.add(m);
+    } else {
+      machine.add(m);
+    }
   }
 
   @Override
@@ -238,14 +308,250 @@ class RE2 {
   // doExecute() finds the leftmost match in the input and returns
   // the position of its subexpressions.
   // Derived from exec.go.
-  private int[] doExecute(MachineInput in, int pos, int anchor, int ncap) {
-    Machine m = get();
-    m.init(ncap);
-    int[] cap = m.match(in, pos, anchor) ? m.submatches() : null;
-    put(m);
+  // (Also used by FileMatcher, which supplies its own MachineInput.)
+  int[] doExecute(MachineInput in, int pos, int anchor, int ncap) {
+    return doExecute(in, pos, anchor, ncap, null, Integer.MAX_VALUE);
+  }
+
+  // doExecuteBefore() is doExecute() for an unanchored search that finds
+  // the leftmost match only if it starts before |limit|, and else none.
+  // It reads no further than the matches in progress that started before
+  // |limit| need.  (Used by ParallelSearch, for each chunk of the input.)
+  int[] doExecuteBefore(MachineInput in, int pos, int limit, int ncap) {
+    return doExecute(in, pos, UNANCHORED, ncap, null, limit);
+  }
+
+  // doExecute() is like the above, but tracks only the capture slots
+  // selected by |slotOf| (see captureSlots), or all of them if it is null,
+  // and finds only a match that starts before |limit|.
+  private int[] doExecute(MachineInput in, int pos, int anchor, int ncap,
+                          int[] slotOf, int limit) {
+    if (ncap <= 2) {
+      slotOf = null;
+    }
+    PatternMetrics metrics = this.metrics;
+    if (metrics != null || ExecutionEvents.active()) {
+      return executeMeasured(metrics, in, pos, anchor, ncap, slotOf, limit);
+    }
+    if (literals != null) {
+      return executeLiterals(in, pos, anchor, ncap, slotOf, new int[2],
+                             ncap == 0, limit);
+    }
+    Machine m = get(ncap);
+    if (slotOf == null) {
+      m.init(ncap);
+    } else {
+      m.init(ncap, slotOf);
+    }
+    int[] cap = m.match(in, pos, anchor, limit) ? m.submatches() : null;
+    put(m, ncap);
     return cap;
   }
 
+  // executeMeasured() is doExecute() for a regexp with |metrics| (which
+  // may be null), which it times and counts, or while a flight recording
+  // is running, to which it reports.
+  private int[] executeMeasured(PatternMetrics metrics, MachineInput in,
+                                int pos, int anchor, int ncap,
+                                int[] slotOf, int limit) {
+    Object event = ExecutionEvents.begin(in.endPos());
+    long start = metrics != null ? System.nanoTime() : 0;
+    int[] cap;
+    long scanned;
+    Machine m = null;
+    if (literals != null) {
+      // With metrics, find the bounds even when only asked whether there
+      // is a match, so that the units scanned are known.
+      int[] bounds = {-1, -1};
+      boolean any = metrics == null && ncap == 0;
+      cap = executeLiterals(in, pos, anchor, ncap, slotOf, bounds, any,
+                            limit);
+      scanned = any ? 0 : (cap != null ? bounds[1] : in.endPos()) - pos;
+    } else {
+      m = get(ncap);
+      if (slotOf == null) {
+        m.init(ncap);
+      } else {
+        m.init(ncap, slotOf);
+      }
+      m.counting = metrics != null;
+      boolean matched = m.match(in, pos, anchor, limit);
+      m.counting = false;
+      cap = matched ? m.submatches() : null;
+      scanned = m.scanned;
+    }
+    if (metrics != null) {
+      metrics.record(System.nanoTime() - start, in.endPos(), cap != null,
+                     scanned, m);
+    }
+    if (m != null) {
+      put(m, ncap);
+    }
+    if (event != null) {
+      ExecutionEvents.end(event, this, anchor, in.endPos(), cap != null);
+    }
+    return cap;
+  }
+
+  // executeLiterals() is doExecute() for a regexp run by |literals|.  Its
+  // only capturing group, if any, is the whole match, whose bounds it
+  // leaves in |bounds| unless |any|.
+  private int[] executeLiterals(MachineInput in, int pos, int anchor,
+                                int ncap, int[] slotOf, int[] bounds,
+                                boolean any, int limit) {
+    if (!literals.match(in, pos, anchor, longest, any, bounds, limit)) {
+      return null;
+    }
+    if (ncap == 0) {
+      return Utils.EMPTY_INTS;
+    }
+    int[] cap = new int[ncap];
+    Arrays.fill(cap, -1);
+    int nslot = Math.min(2 * (numSubexp + 1),
+                         slotOf == null ? ncap : slotOf.length);
+    for (int i = 0; i < nslot; i++) {
+      int slot = slotOf == null ? i : slotOf[i];
+      if (slot >= 0 && slot < ncap) {
+        cap[slot] = bounds[i & 1];
+      }
+    }
+    return cap;
+  }
+
+  // setMetrics() makes |this| and its line-at-a-time variant count their
+  // executions in |metrics|, or stop counting if it is null.
+  synchronized void setMetrics(PatternMetrics metrics) {
+    this.metrics = metrics;
+    if (lineRE2 != null) {
+      lineRE2.metrics = metrics;
+    }
+  }
+
+  // matchBatch() sets |out[i]| to whether |inputs[i]| matches with the RE2
+  // anchor |anchor|, for each of the first |n| inputs.  The whole batch
+  // runs on one machine and, for Strings, one input adapter.
+  void matchBatch(CharSequence[] inputs, int n, int anchor, boolean[] out) {
+    if (metrics != null || ExecutionEvents.active()) {
+      // Count or report each input as an execution of its own.
+      for (int i = 0; i < n; i++) {
+        out[i] = doExecute(MachineInput.fromUTF16(inputs[i]), 0, anchor, 0)
+            != null;
+      }
+      return;
+    }
+    if (literals != null) {
+      int[] bounds = new int[2];
+      MachineInput in = null;
+      for (int i = 0; i < n; i++) {
+        in = MachineInput.fromUTF16(inputs[i], in);
+        out[i] = literals.match(in, 0, anchor, longest, true, bounds);
+      }
+      return;
+    }
+    Machine m = get(0);
+    m.init(0);
+    try {
+      MachineInput in = null;
+      for (int i = 0; i < n; i++) {
+        in = MachineInput.fromUTF16(inputs[i], in);
+        out[i] = m.match(in, 0, anchor);
+      }
+    } finally {
+      put(m, 0);
+    }
+  }
+
+  // findBatch() stores the bounds of the leftmost match in each of
+  // |inputs| at |bounds[2 * i]| and |bounds[2 * i + 1]|, or -1 for inputs
+  // without one, and returns the number of inputs that match.  The whole
+  // batch runs on one machine and, for Strings, one input adapter.
+  int findBatch(List<? extends CharSequence> inputs, int[] bounds) {
+    if (metrics != null || ExecutionEvents.active()) {
+      // Count or report each input as an execution of its own.
+      int found = 0;
+      int i = 0;
+      for (CharSequence s : inputs) {
+        int[] cap = doExecute(MachineInput.fromUTF16(s), 0, UNANCHORED, 2);
+        if (cap != null) {
+          bounds[2 * i] = cap[0];
+          bounds[2 * i + 1] = cap[1];
+          found++;
+        } else {
+          bounds[2 * i] = bounds[2 * i + 1] = -1;
+        }
+        i++;
+      }
+      return found;
+    }
+    if (literals != null) {
+      int[] b = new int[2];
+      int found = 0;
+      MachineInput in = null;
+      int i = 0;
+      for (CharSequence s : inputs) {
+        in = MachineInput.fromUTF16(s, in);
+        if (literals.match(in, 0, UNANCHORED, longest, false, b)) {
+          bounds[2 * i] = b[0];
+          bounds[2 * i + 1] = b[1];
+          found++;
+        } else {
+          bounds[2 * i] = bounds[2 * i + 1] = -1;
+        }
+        i++;
+      }
+      return found;
+    }
+    Machine m = get(2);
+    m.init(2);
+    int found = 0;
+    try {
+      MachineInput in = null;
+      int i = 0;
+      for (CharSequence s : inputs) {
+        in = MachineInput.fromUTF16(s, in);
+        if (m.match(in, 0, UNANCHORED)) {
+          m.copySubmatches(bounds, 2 * i);
+          found++;
+        } else {
+          bounds[2 * i] = bounds[2 * i + 1] = -1;
+        }
+        i++;
+      }
+    } finally {
+      put(m, 2);
+    }
+    return found;
+  }
+
+  /**
+   * Returns a map from each capture slot of this regexp to the slot that
+   * tracks it when only the overall match and the specified groups are
+   * recorded, or -1 for slots that are not recorded.  The result is
+   * suitable for {@link #match(CharSequence, int, int, int, int[], int[])}.
+   *
+   * @throws IndexOutOfBoundsException if a group is not in
+   *   {@code [0, numberOfCapturingGroups()]}
+   */
+  int[] captureSlots(int[] groups) {
+    int[] slotOf = new int[2 + 2 * numSubexp];
+    Arrays.fill(slotOf, -1);
+    slotOf[0] = slotOf[1] = 0;  // (numbered below)
+    for (int group : groups) {
+      if (group < 0 || group > numSubexp) {
+        throw new IndexOutOfBoundsException(
+            "Group index out of bounds: " + group);
+      }
+      slotOf[2 * group] = slotOf[2 * group + 1] = 0;
+    }
+    int n = 0;
+    for (int i = 0; i < slotOf.length; i++) {
+      if (slotOf[i] >= 0) {
+        slotOf[i] = n++;
+      }
+    }
+    return slotOf;
+  }
+
   /**
    * Returns true iff this regexp matches the string {@code s}.
    */
@@ -281,8 +587,28 @@ class RE2 {
     // In Russ' own words:
     // That is, I believe doExecute needs to know the bounds of the whole input
     // as well as the bounds of the subpiece that is being searched.
-    int[] groupMatch = doExecute(MachineInput.fromUTF16(input, 0, end), start,
-        anchor, 2 * ngroup);
+    return match(MachineInput.fromUTF16(input, 0, end), start, anchor, group,
+        ngroup);
+  }
+
+  /**
+   * Like {@link #match(CharSequence, int, int, int, int[], int)}, but for
+   * UTF-8 input: the bytes of {@code input} from its position to its limit.
+   * Positions are byte offsets relative to the buffer's position.  The
+   * buffer's position and limit are not changed.
+   */
+  boolean match(ByteBuffer input, int start, int end, int anchor, int[] group,
+                int ngroup) {
+    if (start > end) {
+      return false;
+    }
+    return match(MachineInput.fromUTF8(input, 0, end), start, anchor, group,
+        ngroup);
+  }
+
+  private boolean match(MachineInput in, int start, int anchor, int[] group,
+                        int ngroup) {
+    int[] groupMatch = doExecute(in, start, anchor, 2 * ngroup);
 
     if (groupMatch == null) {
       return false;
@@ -294,6 +620,57 @@ class RE2 {
     return true;
   }
 
+  /**
+   * Like {@link #match(CharSequence, int, int, int, int[], int)}, but
+   * records only the submatch boundaries selected by {@code slotOf}, a map
+   * returned by {@link #captureSlots}.  Untracked entries of {@code group}
+   * are set to -1.  Capturing instructions for untracked groups are
+   * skipped, so their slots are never copied between threads.
+   */
+  boolean match(CharSequence input, int start, int end, int anchor, int[] group,
+                int[] slotOf) {
+    if (start > end) {
+      return false;
+    }
+    return match(MachineInput.fromUTF16(input, 0, end), start, anchor, group,
+        slotOf);
+  }
+
+  /**
+   * Like {@link #match(ByteBuffer, int, int, int, int[], int)}, but records
+   * only the submatch boundaries selected by {@code slotOf}, as for
+   * {@link #match(CharSequence, int, int, int, int[], int[])}.
+   */
+  boolean match(ByteBuffer input, int start, int end, int anchor, int[] group,
+                int[] slotOf) {
+    if (start > end) {
+      return false;
+    }
+    return match(MachineInput.fromUTF8(input, 0, end), start, anchor, group,
+        slotOf);
+  }
+
+  private boolean match(MachineInput in, int start, int anchor, int[] group,
+                        int[] slotOf) {
+    int ncap = 0;
+    for (int slot : slotOf) {
+      if (slot >= ncap) {
+        ncap = slot + 1;
+      }
+    }
+    int[] cap = doExecute(in, start, anchor, ncap, slotOf, Integer.MAX_VALUE);
+    if (cap == null) {
+      return false;
+    }
+    if (group != null) {
+      for (int i = 0; i < slotOf.length && i < group.length; i++) {
+        int slot = slotOf[i];
+        group[i] = slot >= 0 && slot < cap.length ? cap[slot] : -1;
+      }
+    }
+    return true;
+  }
+
   /**
    * Returns true iff this regexp matches the UTF-8 byte array {@code b}.
    */
@@ -457,13 +834,15 @@ class RE2 {
   }
 
   // Find matches in input.
-  private void allMatches(MachineInput input, int n, DeliverFunc deliver) {
+  // Only the first |ncap| capture slots of each match are recorded.
+  private void allMatches(MachineInput input, int n, int ncap,
+                          DeliverFunc deliver) {
     int end = input.endPos();
     if (n < 0) {
       n = end + 1;
     }
     for (int pos = 0, i = 0, prevMatchEnd = -1; i < n && pos <= end; ) {
-      int[] matches = doExecute(input, pos, UNANCHORED, prog.numCap);
+      int[] matches = doExecute(input, pos, UNANCHORED, ncap);
       if (matches == null || matches.length == 0) {
         break;
       }
@@ -683,7 +1062,7 @@ class RE2 {
   // This is visible for testing.
   List<byte[]> findAllUTF8(final byte[] b, int n) {
     final List<byte[]> result = new ArrayList<byte[]>();
-    allMatches(MachineInput.fromUTF8(b), n, new DeliverFunc() {
+    allMatches(MachineInput.fromUTF8(b), n, 2, new DeliverFunc() {
         @Override public void deliver(int[] match) {
           result.add(Utils.subarray(b, match[0], match[1]));
         }});
@@ -704,7 +1083,7 @@ class RE2 {
   // This is visible for testing.
   List<int[]> findAllUTF8Index(final byte[] b, int n) {
     final List<int[]> result = new ArrayList<int[]>();
-    allMatches(MachineInput.fromUTF8(b), n, new DeliverFunc() {
+    allMatches(MachineInput.fromUTF8(b), n, 2, new DeliverFunc() {
       @Override public void deliver(int[] match) {
           result.add(Utils.subarray(match, 0, 2));
         }});
@@ -725,7 +1104,7 @@ class RE2 {
   // This is visible for testing.
   List<String> findAll(final String s, int n) {
     final List<String> result = new ArrayList<String>();
-    allMatches(MachineInput.fromUTF16(s), n, new DeliverFunc() {
+    allMatches(MachineInput.fromUTF16(s), n, 2, new DeliverFunc() {
         @Override public void deliver(int[] match) {
           result.add(s.substring(match[0], match[1]));
         }});
@@ -746,7 +1125,7 @@ class RE2 {
   // This is visible for testing.
   List<int[]> findAllIndex(String s, int n) {
     final List<int[]> result = new ArrayList<int[]>();
-    allMatches(MachineInput.fromUTF16(s), n, new DeliverFunc() {
+    allMatches(MachineInput.fromUTF16(s), n, 2, new DeliverFunc() {
       @Override public void deliver(int[] match) {
           result.add(Utils.subarray(match, 0, 2));
         }});
@@ -767,7 +1146,7 @@ class RE2 {
   // This is visible for testing.
   List<byte[][]> findAllUTF8Submatch(final byte[] b, int n) {
     final List<byte[][]> result = new ArrayList<byte[][]>();
-    allMatches(MachineInput.fromUTF8(b), n, new DeliverFunc() {
+    allMatches(MachineInput.fromUTF8(b), n, prog.numCap, new DeliverFunc() {
       @Override public void deliver(int[] match) {
           byte[][] slice = new byte[match.length / 2][];
           for (int j = 0; j < slice.length; ++j) {
@@ -794,7 +1173,7 @@ class RE2 {
   // This is visible for testing.
   List<int[]> findAllUTF8SubmatchIndex(byte[] b, int n) {
     final List<int[]> result = new ArrayList<int[]>();
-    allMatches(MachineInput.fromUTF8(b), n, new DeliverFunc() {
+    allMatches(MachineInput.fromUTF8(b), n, prog.numCap, new DeliverFunc() {
       @Override public void deliver(int[] match) {
           result.add(match);
         }});
@@ -815,7 +1194,7 @@ class RE2 {
   // This is visible for testing.
   List<String[]> findAllSubmatch(final String s, int n) {
     final List<String[]> result = new ArrayList<String[]>();
-    allMatches(MachineInput.fromUTF16(s), n, new DeliverFunc() {
+    allMatches(MachineInput.fromUTF16(s), n, prog.numCap, new DeliverFunc() {
         @Override public void deliver(int[] match) {
           String[] slice = new String[match.length / 2];
           for (int j = 0; j < slice.length; ++j) {
@@ -842,7 +1221,7 @@ class RE2 {
   // This is visible for testing.
   List<int[]> findAllSubmatchIndex(String s, int n) {
     final List<int[]> result = new ArrayList<int[]>();
-    allMatches(MachineInput.fromUTF16(s), n, new DeliverFunc() {
+    allMatches(MachineInput.fromUTF16(s), n, prog.numCap, new DeliverFunc() {
         @Override public void deliver(int[] match) {
           result.add(match);
         }});
@@ -11,7 +11,12 @@ import java.util.ArrayList;
 
 class Simplify {
 
-  // Simplify returns a regexp equivalent to re but without counted
+  // Repetitions of a single rune or character class that would expand to
+  // more than this many copies are left as REPEAT, which the compiler
+  // turns into a single counting instruction; see Compiler.count().
+  static final int MAX_EXPANDED_REPEAT = 16;
+
+  // Simplify returns a regexp equivalent to re but without most counted
   // repetitions and with various other simplifications, such as
   // rewriting /(?:a+)+/ to /a+/.  The resulting regexp will execute
   // correctly but its string representation will not produce the same
@@ -60,6 +65,19 @@ class Simplify {
         // The fun begins.
         Regexp sub = simplify(re.subs[0]);
 
+        // Large repetitions of a single rune are counted rather than
+        // expanded.
+        if (isSingleRune(sub) &&
+            (re.max == -1 ? re.min : re.max) > MAX_EXPANDED_REPEAT &&
+            (re.max == -1 || re.min <= re.max)) {
+          if (sub == re.subs[0]) {
+            return re;
+          }
+          Regexp nre = new Regexp(re);  // shallow copy
+          nre.subs = new Regexp[] { sub };
+          return nre;
+        }
+
         // x{n,} means at least n matches of x.
         if (re.max == -1) {
           // Special case: x{0,} is x*.
@@ -131,6 +149,21 @@ class Simplify {
     return re;
   }
 
+  // isSingleRune() reports whether |re| always matches exactly one rune,
+  // which it can test without captures or lookaround.
+  static boolean isSingleRune(Regexp re) {
+    switch (re.op) {
+      case LITERAL:
+        return re.runes.length == 1;
+      case CHAR_CLASS:
+      case ANY_CHAR:
+      case ANY_CHAR_NOT_NL:
+        return true;
+      default:
+        return false;
+    }
+  }
+
   // simplify1 implements Simplify for the unary OpStar,
   // OpPlus, and OpQuest operators.  It returns the simple regexp
   // equivalent to
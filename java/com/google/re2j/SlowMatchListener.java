@@ -0,0 +1,20 @@
+// Copyright 2026 Google Inc. All Rights Reserved.
+
+package com.google.re2j;
+
+/**
+ * A listener told of searches that take longer than a threshold; see
+ * {@link PatternMetrics#setSlowMatchListener}.
+ */
+public interface SlowMatchListener {
+
+  /**
+   * Called after a slow search, on the thread that ran it.
+   *
+   * @param pattern the pattern searched for
+   * @param inputLength the length of the input, in chars, or in bytes for
+   *   UTF-8 input
+   * @param nanos how long the search took, in nanoseconds
+   */
+  void slowMatch(Pattern pattern, int inputLength, long nanos);
+}
@@ -0,0 +1,242 @@
+// Copyright 2026 Google Inc. All Rights Reserved.
+
+package com.google.re2j;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * A stateful iterator over the matches of a {@code Pattern} in the text
+ * read from a {@code java.io.Reader}, which need not fit in memory.
+ * Obtain one from {@link Pattern#streamMatcher(Reader)}.
+ *
+ * <p>Text is read into a sliding window as the search needs it, and each
+ * match is reported as soon as it is complete.  The window holds only the
+ * text that the matches in progress may still report, so searching an
+ * unbounded stream takes memory proportional to the longest match (or
+ * partial match) rather than to the stream.
+ *
+ * <p>Matches are the ones that {@link Matcher#find()} would report on the
+ * whole text, except that an empty match is never reported between the
+ * two {@code char}s of a surrogate pair.  Offsets count {@code char}s from
+ * the start of the stream.
+ * The reader is not closed.
+ *
+ * <p>Instances are not safe for use by multiple threads.
+ */
+public final class StreamMatcher {
+
+  private static final int BUFFER_SIZE = 8192;
+
+  private final Pattern pattern;
+  private final Reader reader;
+  private final CharSearch search;
+
+  // The number of submatches (groups) in the pattern.
+  private final int groupCount;
+
+  // Is there a current match?
+  private boolean hasMatch;
+
+  StreamMatcher(Pattern pattern, Reader reader) {
+    this(pattern, reader, BUFFER_SIZE);
+  }
+
+  // This is visible for testing.
+  StreamMatcher(Pattern pattern, Reader reader, int bufferSize) {
+    if (pattern == null) {
+      throw new NullPointerException("pattern is null");
+    }
+    if (reader == null) {
+      throw new NullPointerException("reader is null");
+    }
+    this.pattern = pattern;
+    this.reader = reader;
+    this.search = new CharSearch(pattern.re2(), bufferSize);
+    this.groupCount = pattern.re2().numberOfCapturingGroups();
+  }
+
+  /** Returns the {@code Pattern} associated with this {@code StreamMatcher}. */
+  public Pattern pattern() {
+    return pattern;
+  }
+
+  /**
+   * Finds the next match in the stream, reading as much of it as needed.
+   *
+   * @return true if it finds a match
+   * @throws IOException if the reader throws it
+   */
+  public boolean find() throws IOException {
+    hasMatch = false;
+    for (;;) {
+      if (search.advance()) {
+        hasMatch = true;
+        return true;
+      }
+      if (search.isDone()) {
+        return false;
+      }
+      search.fill(reader);
+    }
+  }
+
+  /**
+   * Returns the start offset of the most recent match.
+   *
+   * @throws IllegalStateException if there is no match
+   */
+  public long start() {
+    return start(0);
+  }
+
+  /**
+   * Returns the end offset of the most recent match.
+   *
+   * @throws IllegalStateException if there is no match
+   */
+  public long end() {
+    return end(0);
+  }
+
+  /**
+   * Returns the start offset of a subgroup of the most recent match, or -1
+   * if the group did not participate in it.
+   *
+   * @param group the group index; 0 is the overall match
+   * @throws IllegalStateException if there is no match
+   * @throws IndexOutOfBoundsException
+   *   if {@code group < 0} or {@code group > groupCount()}
+   */
+  public long start(int group) {
+    checkGroup(group);
+    return search.groups[2 * group];
+  }
+
+  /**
+   * Returns the end offset of a subgroup of the most recent match, or -1 if
+   * the group did not participate in it.
+   *
+   * @param group the group index; 0 is the overall match
+   * @throws IllegalStateException if there is no match
+   * @throws IndexOutOfBoundsException
+   *   if {@code group < 0} or {@code group > groupCount()}
+   */
+  public long end(int group) {
+    checkGroup(group);
+    return search.groups[2 * group + 1];
+  }
+
+  /**
+   * Returns the most recent match.
+   *
+   * @throws IllegalStateException if there is no match
+   */
+  public String group() {
+    return group(0);
+  }
+
+  /**
+   * Returns a subgroup of the most recent match, or null if the group did
+   * not participate in it.
+   *
+   * @param group the group index; 0 is the overall match
+   * @throws IllegalStateException if there is no match
+   * @throws IndexOutOfBoundsException
+   *   if {@code group < 0} or {@code group > groupCount()}
+   */
+  public String group(int group) {
+    long start = start(group);
+    if (start < 0) {
+      return null;
+    }
+    int i = (int) (start - search.base);
+    return new String(search.buf, i, (int) (end(group) - start));
+  }
+
+  /**
+   * Returns the number of subgroups in this pattern.
+   *
+   * @return the number of subgroups; the overall match (group 0) does not count
+   */
+  public int groupCount() {
+    return groupCount;
+  }
+
+  // This is visible for testing.
+  int bufferSize() {
+    return search.buf.length;
+  }
+
+  private void checkGroup(int group) {
+    if (!hasMatch) {
+      throw new IllegalStateException("perhaps no match attempted");
+    }
+    if (group < 0 || group > groupCount) {
+      throw new IndexOutOfBoundsException(
+          "Group index out of bounds: " + group);
+    }
+  }
+
+  // A StreamSearch over UTF-16 text read into a char array.
+  private static final class CharSearch extends StreamSearch {
+    char[] buf;
+    int limit;  // end of the text in |buf|
+    boolean eof;  // has the reader been exhausted?
+
+    CharSearch(RE2 re2, int bufferSize) {
+      super(re2);
+      this.buf = new char[bufferSize];
+    }
+
+    // fill() reads more text, first making room for it if need be.
+    void fill(Reader reader) throws IOException {
+      if (limit == buf.length) {
+        int n = discardable();
+        if (n > 0) {
+          System.arraycopy(buf, n, buf, 0, limit - n);
+          limit -= n;
+          discarded(n);
+        }
+        if (limit > buf.length / 2) {
+          buf = Arrays.copyOf(buf, 2 * buf.length);
+        }
+      }
+      int n = reader.read(buf, limit, buf.length - limit);
+      if (n < 0) {
+        eof = true;
+      } else {
+        limit += n;
+      }
+    }
+
+    @Override
+    int step(int i) {
+      if (i >= limit) {
+        return eof ? MachineInput.EOF : MORE;
+      }
+      char c = buf[i];
+      if (Character.isHighSurrogate(c)) {
+        if (i + 1 >= limit) {
+          if (!eof) {
+            return MORE;
+          }
+        } else if (Character.isLowSurrogate(buf[i + 1])) {
+          return Character.toCodePoint(c, buf[i + 1]) << 3 | 2;
+        }
+      }
+      return c << 3 | 1;
+    }
+
+    @Override
+    int runeBefore(int i) {
+      char c = buf[i - 1];
+      if (Character.isLowSurrogate(c) && i >= 2 &&
+          Character.isHighSurrogate(buf[i - 2])) {
+        return Character.toCodePoint(buf[i - 2], c);
+      }
+      return c;
+    }
+  }
+}
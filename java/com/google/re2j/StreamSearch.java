@@ -0,0 +1,163 @@
+// Copyright 2026 Google Inc. All Rights Reserved.
+
+package com.google.re2j;
+
+import java.util.Arrays;
+
+/**
+ * StreamSearch finds successive matches, with the semantics of
+ * {@link Matcher#find()}, in text that arrives in pieces.  It feeds the
+ * text to an incremental {@link Machine} as it arrives, and keeps only the
+ * text that a match in progress may still report.
+ *
+ * <p>Subclasses hold the text from absolute offset {@link #base} onwards
+ * in a buffer, decode it, and call {@link #discardable()} and
+ * {@link #discarded(int)} to drop text that is no longer needed.
+ * Positions within the buffer are {@code int}s; offsets within the whole
+ * text are {@code long}s.
+ */
+abstract class StreamSearch {
+
+  // step() result meaning the rune at the position is not yet complete.
+  static final int MORE = -2 << 3;
+
+  // Longest rune encoding, in buffer units.  This much text is kept
+  // before the restart position so that its preceding rune is known.
+  private static final int MAX_WIDTH = 4;
+
+  private final Machine machine;
+
+  // Absolute offset of the first unit of the buffer.
+  long base;
+
+  // Buffer position of the next rune to feed to the machine.
+  private int pos;
+
+  // The rune before |pos|, or -1 at the beginning of the text.
+  private int prevRune = -1;
+
+  // Is a match in progress?
+  private boolean searching;
+
+  // Must the next match start after the rune at |pos|?  (Set after an
+  // empty match.)
+  private boolean nudge;
+
+  // Have all the matches been found?
+  private boolean done;
+
+  // The group offsets of the last match, in [start, end) pairs.
+  final long[] groups;
+
+  StreamSearch(RE2 re2) {
+    this.machine = new Machine(re2);
+    int ncap = re2.prog.numCap < 2 ? 2 : re2.prog.numCap;
+    machine.init(ncap);
+    this.groups = new long[2 + 2 * re2.numberOfCapturingGroups()];
+  }
+
+  // step() returns the rune at buffer position |i| and its width as
+  // rune << 3 | width, MachineInput.EOF at the end of the text, or MORE if
+  // the text there has not arrived yet.
+  abstract int step(int i);
+
+  // runeBefore() returns the rune that ends at buffer position |i|, which
+  // is not the start of the text.
+  abstract int runeBefore(int i);
+
+  // advance() feeds buffered text to the machine until a match is found,
+  // in which case it returns true and sets |groups|, or until it needs
+  // more text or has found all the matches (see isDone()).
+  final boolean advance() {
+    while (!done) {
+      if (!searching) {
+        if (nudge) {  // empty match - nudge forward
+          int r = step(pos);
+          if (r == MORE) {
+            return false;
+          }
+          if (r == MachineInput.EOF) {
+            done = true;
+            return false;
+          }
+          prevRune = r >> 3;
+          pos += r & 7;
+          nudge = false;
+        }
+        machine.startStream();
+        searching = true;
+      }
+      // A rune is fed once the rune after it is known, so that the
+      // empty-width conditions between them can be decided.
+      int r = step(pos);
+      if (r == MORE) {
+        return false;
+      }
+      int rune = r >> 3;
+      int width = r & 7;
+      int nextFlag;
+      if (width == 0) {  // EOF
+        nextFlag = Utils.emptyOpContext(-1, -1);
+      } else {
+        int r1 = step(pos + width);
+        if (r1 == MORE) {
+          return false;
+        }
+        nextFlag = Utils.emptyOpContext(rune, r1 >> 3);
+      }
+      int flag = Utils.emptyOpContext(prevRune, rune);
+      boolean finished = machine.streamStep(pos, rune, width, flag, nextFlag);
+      if (width > 0) {
+        pos += width;
+        prevRune = rune;
+      }
+      if (finished) {
+        searching = false;
+        if (!machine.matched()) {
+          done = true;
+          return false;
+        }
+        int[] cap = machine.submatches();
+        Arrays.fill(groups, -1);
+        for (int i = 0; i < cap.length && i < groups.length; i++) {
+          if (cap[i] >= 0) {
+            groups[i] = base + cap[i];
+          }
+        }
+        // The next match starts at the end of this one.
+        nudge = cap[0] == cap[1];
+        if (cap[1] != pos) {
+          pos = cap[1];
+          prevRune = base + pos == 0 ? -1 : runeBefore(pos);
+        }
+        return true;
+      }
+    }
+    return false;
+  }
+
+  // isDone() reports whether all the matches have been found.
+  final boolean isDone() {
+    return done;
+  }
+
+  // discardable() returns the number of units at the start of the buffer
+  // that are no longer needed.  This may include the text of the last match
+  // found, so subclasses that expose it must not discard text until the
+  // caller has moved on.
+  final int discardable() {
+    int keep = searching ? machine.streamMinStart(pos) : pos;
+    keep -= MAX_WIDTH;
+    return keep > 0 ? keep : 0;
+  }
+
+  // discarded() records that the subclass dropped the first |n| units of
+  // its buffer, where n <= discardable().
+  final void discarded(int n) {
+    base += n;
+    pos -= n;
+    if (searching) {
+      machine.streamRebase(n);
+    }
+  }
+}
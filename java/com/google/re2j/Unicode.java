@@ -33,6 +33,15 @@ class Unicode {
   static final int MIN_FOLD = 0x0041;
   static final int MAX_FOLD = 0x1044f;
 
+  // The case tables, which simpleFold() uses for every case-folded rune,
+  // unpacked when first needed.
+  private static final class CaseTables {
+    static final int[][] RANGES =
+        UnicodeTables.table(UnicodeTables.CASE_RANGES);
+    static final int[][] ORBIT =
+        UnicodeTables.table(UnicodeTables.CASE_ORBIT);
+  }
+
   // is32 uses binary search to test whether rune is in the specified
   // slice of 32-bit ranges.
   // TODO(adonovan): opt: consider using int[n*3] instead of int[n][3].
@@ -79,7 +88,7 @@ class Unicode {
     if (r <= MAX_LATIN1) {
       return Character.isUpperCase((char) r);
     }
-    return is(UnicodeTables.Upper, r);
+    return is(UnicodeTables.table(UnicodeTables.Upper), r);
   }
 
   // isLower reports whether the rune is a lower case letter.
@@ -88,7 +97,7 @@ class Unicode {
     if (r <= MAX_LATIN1) {
       return Character.isLowerCase((char) r);
     }
-    return is(UnicodeTables.Lower, r);
+    return is(UnicodeTables.table(UnicodeTables.Lower), r);
   }
 
   // isTitle reports whether the rune is a title case letter.
@@ -96,7 +105,7 @@ class Unicode {
     if (r <= MAX_LATIN1) {
       return false;
     }
-    return is(UnicodeTables.Title, r);
+    return is(UnicodeTables.table(UnicodeTables.Title), r);
   }
 
   // isPrint reports whether the rune is printable (Unicode L/M/N/P/S or ' ').
@@ -105,11 +114,11 @@ class Unicode {
       return r >= 0x20 && r < 0x7F ||
              r >= 0xA1 && r != 0xAD;
     }
-    return is(UnicodeTables.L, r) ||
-           is(UnicodeTables.M, r) ||
-           is(UnicodeTables.N, r) ||
-           is(UnicodeTables.P, r) ||
-           is(UnicodeTables.S, r);
+    return is(UnicodeTables.table(UnicodeTables.L), r) ||
+           is(UnicodeTables.table(UnicodeTables.M), r) ||
+           is(UnicodeTables.table(UnicodeTables.N), r) ||
+           is(UnicodeTables.table(UnicodeTables.P), r) ||
+           is(UnicodeTables.table(UnicodeTables.S), r);
   }
 
   // A case range is conceptually a record:
@@ -158,7 +167,7 @@ class Unicode {
 
   // to maps the rune to the specified case: UpperCase, LowerCase, or TitleCase.
   private static int to(int kase, int r) {
-    return to(kase, r, UnicodeTables.CASE_RANGES);
+    return to(kase, r, CaseTables.RANGES);
   }
 
   // toUpper maps the rune to upper case.
@@ -198,23 +207,38 @@ class Unicode {
   //
   //      SimpleFold('1') = '1'
   //
-  // Derived from Go's unicode.SimpleFold.
+  // Derived from Go's unicode.SimpleFold.  The results are looked up in
+  // FOLD_PAGES; see simpleFoldSlow() for how they are computed.
   //
   static int simpleFold(int r) {
+    if (r < MIN_FOLD || r > MAX_FOLD) {
+      return r;
+    }
+    FoldPage page = FOLD_PAGES[r >> 8];
+    if (page == null) {
+      // (Racing threads build equal pages; any of them will do.)
+      page = FOLD_PAGES[r >> 8] = new FoldPage(r >> 8);
+    }
+    return page.fold == null ? r : page.fold[r & 0xFF];
+  }
+
+  // simpleFoldSlow() computes simpleFold(r) by searching the case tables.
+  // This is visible for testing.
+  static int simpleFoldSlow(int r) {
     // Consult caseOrbit table for special cases.
     int lo = 0;
-    int hi = UnicodeTables.CASE_ORBIT.length;
+    int[][] orbit = CaseTables.ORBIT;
+    int hi = orbit.length;
     while (lo < hi) {
       int m = lo + (hi - lo) / 2;
-      if (UnicodeTables.CASE_ORBIT[m][0] < r) {
+      if (orbit[m][0] < r) {
         lo = m + 1;
       } else {
         hi = m;
       }
     }
-    if (lo < UnicodeTables.CASE_ORBIT.length &&
-        UnicodeTables.CASE_ORBIT[lo][0] == r) {
-      return UnicodeTables.CASE_ORBIT[lo][1];
+    if (lo < orbit.length && orbit[lo][0] == r) {
+      return orbit[lo][1];
     }
 
     // No folding specified.  This is a one- or two-element
@@ -227,6 +251,34 @@ class Unicode {
     return toUpper(r);
   }
 
+  // simpleFold() of every rune from 0 to MAX_FOLD, in pages of 256 runes
+  // built on first use.  Each entry is the next rune in the rune's orbit,
+  // so following the entries walks the whole orbit without a search.
+  // The Latin-1 page, which nearly every pattern needs, is built up front.
+  private static final FoldPage[] FOLD_PAGES =
+      new FoldPage[(MAX_FOLD >> 8) + 1];
+
+  static {
+    FOLD_PAGES[0] = new FoldPage(0);
+  }
+
+  // A page of FOLD_PAGES.  Its field is final so that a page published to
+  // another thread without synchronization is seen fully built.
+  private static final class FoldPage {
+    final int[] fold;  // null if every rune in the page folds to itself
+
+    FoldPage(int page) {
+      int[] fold = new int[256];
+      boolean identity = true;
+      for (int i = 0; i < 256; i++) {
+        int r = page << 8 | i;
+        fold[i] = simpleFoldSlow(r);
+        identity &= fold[i] == r;
+      }
+      this.fold = identity ? null : fold;
+    }
+  }
+
   private Unicode() {}  // uninstantiable
 
 }
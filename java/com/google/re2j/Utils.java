@@ -110,8 +110,15 @@ abstract class Utils {
   // Returns the index of the first occurrence of array |target| within
   // array |source| after |fromIndex|, or -1 if not found.
   static int indexOf(byte[] source, byte[] target, int fromIndex) {
-    if (fromIndex >= source.length) {
-      return target.length == 0 ? source.length : -1;
+    return indexOf(source, target, fromIndex, source.length);
+  }
+
+  // Returns the index of the first occurrence of array |target| within
+  // |source[fromIndex:toIndex]|, or -1 if not found.
+  static int indexOf(byte[] source, byte[] target, int fromIndex,
+                     int toIndex) {
+    if (fromIndex >= toIndex) {
+      return target.length == 0 ? toIndex : -1;
     }
     if (fromIndex < 0) {
       fromIndex = 0;
@@ -121,7 +128,7 @@ abstract class Utils {
     }
 
     byte first = target[0];
-    for (int i = fromIndex, max = source.length - target.length; i <= max;
+    for (int i = fromIndex, max = toIndex - target.length; i <= max;
          i++) {
       // Look for first byte.
       if (source[i] != first) {
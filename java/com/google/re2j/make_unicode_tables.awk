@@ -10,7 +10,9 @@
 # java.lang.Character).
 #
 # This script processes Go's version of these tables to convert
-# them into a Java class with static members containing this information.
+# them into a Java class containing this information.  Each table is
+# packed into a string constant, which UnicodeTables.unpack() decodes on
+# first use, so that loading the class does not build every table.
 #
 # Run like so:
 # awk -f make_unicode_tables.awk go/src/pkg/unicode/tables.go \
@@ -47,24 +49,104 @@
 #        ...
 #      }
 
-BEGIN {
-  print "// AUTOGENERATED by make_unicode_tables.awk from the output of"
-  print "// go/src/pkg/unicode/maketables.go.  Yes it's awful, but frankly"
-  print "// it's quicker than porting 1300 more lines of Go."
-  print
-  print "package com.google.re2j;";
-  print
-  print "import java.util.HashMap;"
-  print "import java.util.Map;"
-  print
-  print "class UnicodeTables {";
+# num() converts a Go integer literal or constant name to a number.
+function num(s,   i, c, v) {
+  if (s == "UpperLower") {
+    return 1114112;  # 0x110000
+  }
+  if (substr(s, 1, 2) != "0x" && substr(s, 1, 2) != "0X") {
+    return s + 0;
+  }
+  v = 0;
+  for (i = 3; i <= length(s); i++) {
+    c = index("0123456789abcdef", tolower(substr(s, i, 1))) - 1;
+    v = v * 16 + c;
+  }
+  return v;
+}
 
-  # Constants used by CASE_RANGES and by Unicode utilities.
-  # TODO(adonovan): use Java-style identifiers.
-  print "  static final int UpperCase = 0;";
-  print "  static final int LowerCase = 1;";
-  print "  static final int TitleCase = 2;";
-  print "  static final int UpperLower = 0x110000;";
+# enc() zig-zag encodes v and writes it as base-32 digits, most significant
+# first, in '#'..'B' except for the last, in ']'..'|'.
+function enc(v,   s) {
+  v = v < 0 ? -2 * v - 1 : 2 * v;
+  s = sprintf("%c", 93 + v % 32);
+  v = int(v / 32);
+  while (v > 0) {
+    s = sprintf("%c", 35 + v % 32) s;
+    v = int(v / 32);
+  }
+  return s;
+}
+
+# begin_table() starts collecting the rows of table |name|.
+function begin_table(name) {
+  ntables++;
+  tname[ntables] = name;
+  id[name] = ntables - 1;
+  rows = 0;
+  cols = 0;
+  packed = "";
+  prev = 0;
+}
+
+# add_row() packs a row like "{0x0041, 0x005A, d{0, 32, 0}},".  The first
+# column is stored as the difference from the previous row's, the second
+# as the difference from the first, and the rest as they are.
+function add_row(line,   n, f, j, v) {
+  gsub(/d[{]/, "", line);
+  gsub(/[{} \t]/, "", line);
+  n = split(line, f, ",");
+  if (f[n] == "") {
+    n--;
+  }
+  cols = n;
+  rows++;
+  v = num(f[1]);
+  packed = packed enc(v - prev);
+  prev = v;
+  if (n > 1) {
+    packed = packed enc(num(f[2]) - v);
+  }
+  for (j = 3; j <= n; j++) {
+    packed = packed enc(num(f[j]));
+  }
+}
+
+function end_table() {
+  tdata[ntables] = enc(cols) enc(rows) packed;
+}
+
+# print_map() prints the names of map |m|, sorted, and the table of each.
+function print_map(m, prefix,   i, j, t, names, ids) {
+  for (i = 1; i <= msize[m]; i++) {
+    names[i] = mkey[m, i];
+  }
+  for (i = 2; i <= msize[m]; i++) {  # insertion sort
+    t = names[i];
+    for (j = i - 1; j >= 1 && names[j] > t; j--) {
+      names[j + 1] = names[j];
+    }
+    names[j + 1] = t;
+  }
+  print "  private static final String[] " prefix "_NAMES = {";
+  for (i = 1; i <= msize[m]; i++) {
+    print "    \"" names[i] "\",";
+  }
+  print "  };";
+  print "  private static final int[] " prefix "_TABLES = {";
+  for (i = 1; i <= msize[m]; i++) {
+    t = mval[m, names[i]];
+    if (t in alias) {
+      t = alias[t];
+    }
+    print "    " id[t] ",  // " names[i];
+  }
+  print "  };";
+}
+
+BEGIN {
+  ntables = 0;
+  nalias = 0;
 }
 
 
@@ -72,26 +154,23 @@ BEGIN {
 
 state == 0 && /^var FoldScript = .*{}/ {
   # Special case for when this map is empty map
-  print "  private static Map<String, int[][]> " $2 "() {";
-  print "    return new HashMap<String, int[][]>();";
-  print "  }";
+  msize[$2] = 0;
   next;
 }
 state == 0 && /^var (Categories|Scripts|FoldCategory|FoldScript|Properties)/ {
-  print "  private static Map<String, int[][]> "$2"() {";
-  print "    Map<String, int[][]> map = new HashMap<String, int[][]>();";
+  map = $2;
+  msize[map] = 0;
   state = 1;
   next;
 }
 state == 1 && /.*: .*,/ {
-  key = substr($1, 0, length($1) - 1);
+  key = substr($1, 2, length($1) - 3);
   value = substr($2, 0, length($2) - 1);
-  print "    map.put(" key ", " value ");";
+  mkey[map, ++msize[map]] = key;
+  mval[map, key] = value;
   next;
 }
 state == 1 && /^}/ {
-  print "    return map;"
-  print "  }";
   state = 0;
   next;
 }
@@ -100,23 +179,18 @@ state == 1 && /^}/ {
 ### State 2
 
 state == 0 && /^var .* = &RangeTable{/ {
-  # Hack upon hack: javac refuses to compile too-large methods,
-  # so we have to split this into smaller pieces.
-  print "  private static final int[][] " $2 " = make" $2 "();";
-  print "  private static int[][] make" $2 "() {";
-  print "    return new int[][] {"
+  begin_table($2);
   state = 2;
   next;
 }
 state == 2 && / *R(16|32)/         { next; }
 state == 2 && /\t},/               { next; }
 state == 2 && /^}/ {
-  print "    };";
-  print "  }";
+  end_table();
   state = 0;
   next;
 }
-state == 2                         { print; }
+state == 2                         { add_row($0); }
 
 
 ### State 3
@@ -126,7 +200,8 @@ state == 0 && /^var \(/ {
   next;
 }
 state == 3 && /=/ {
-  print "  static final int[][] " $1 " = " $3 ";";
+  alias[$1] = $3;
+  aname[++nalias] = $1;
 }
 state == 3 && /^)/ {
   state = 0;
@@ -136,45 +211,170 @@ state == 3 && /^)/ {
 ### State 4
 
 state == 0 && /^var _CaseRanges = / {
-  print "  static final int[][] CASE_RANGES = {";
+  begin_table("CASE_RANGES");
   state = 4;
   next;
 }
 state == 4 && /^}/ {
+  end_table();
   state = 0;
-  print "  };"
   next;
 }
 state == 4 {
-  sub("d{", "");
-  sub("}}", "}");
-  print;
+  add_row($0);
 }
 
 ### State 5
 
 state == 0 && /^var caseOrbit = / {
-  print "  static final int[][] CASE_ORBIT = {";
+  begin_table("CASE_ORBIT");
   state = 5;
   next;
 }
 state == 5 && /^}/ {
+  end_table();
   state = 0;
-  print "  };"
   next;
 }
 state == 5 {
-  print;
+  add_row($0);
 }
 
 
 END {
-  # Call the functions after all initialization has occurred.
-  print "  static final Map<String, int[][]> CATEGORIES = Categories();"
-  print "  static final Map<String, int[][]> SCRIPTS    = Scripts();"
-  print "  static final Map<String, int[][]> PROPERTIES = Properties();"
-  print "  static final Map<String, int[][]> FOLD_CATEGORIES = FoldCategory();"
-  print "  static final Map<String, int[][]> FOLD_SCRIPT = FoldScript();"
+  print "// AUTOGENERATED by make_unicode_tables.awk from the output of"
+  print "// go/src/pkg/unicode/maketables.go.  Yes it's awful, but frankly"
+  print "// it's quicker than porting 1300 more lines of Go."
+  print ""
+  print "package com.google.re2j;";
+  print ""
+  print "import java.util.Arrays;"
+  print "import java.util.concurrent.atomic.AtomicReferenceArray;"
+  print ""
+  print "class UnicodeTables {";
+
+  # Constants used by CASE_RANGES and by Unicode utilities.
+  # TODO(adonovan): use Java-style identifiers.
+  print "  static final int UpperCase = 0;";
+  print "  static final int LowerCase = 1;";
+  print "  static final int TitleCase = 2;";
+  print "  static final int UpperLower = 0x110000;";
+  print ""
+
+  print "  // Table identifiers, for table().";
+  for (i = 1; i <= nalias; i++) {
+    print "  static final int " aname[i] " = " id[alias[aname[i]]] ";";
+  }
+  print "  static final int CASE_RANGES = " id["CASE_RANGES"] ";";
+  print "  static final int CASE_ORBIT = " id["CASE_ORBIT"] ";";
+  print ""
+
+  print_map("Categories", "CATEGORY");
+  print_map("Scripts", "SCRIPT");
+  print_map("Properties", "PROPERTY");
+  print_map("FoldCategory", "FOLD_CATEGORY");
+  print_map("FoldScript", "FOLD_SCRIPT");
+  print ""
+
+  print "  // The tables, packed by make_unicode_tables.awk; see unpack().";
+  print "  private static final String[] PACKED = {";
+  for (i = 1; i <= ntables; i++) {
+    print "    // " i - 1 ": " tname[i];
+    s = tdata[i];
+    while (length(s) > 64) {
+      print "    \"" substr(s, 1, 64) "\" +";
+      s = substr(s, 65);
+    }
+    print "    \"" s "\",";
+  }
+  print "  };";
+  print ""
+
+  print "  // The tables unpacked so far.";
+  print "  private static final AtomicReferenceArray<int[][]> TABLES =";
+  print "      new AtomicReferenceArray<int[][]>(PACKED.length);";
+  print ""
+  print "  // table() returns the table with identifier |id|, unpacking it on";
+  print "  // first use.";
+  print "  static int[][] table(int id) {";
+  print "    int[][] t = TABLES.get(id);";
+  print "    if (t == null) {";
+  print "      // (Racing threads unpack equal tables; any of them will do.)";
+  print "      t = unpack(PACKED[id]);";
+  print "      TABLES.set(id, t);";
+  print "    }";
+  print "    return t;";
+  print "  }";
+  print ""
+  print "  // category() returns the table for the Unicode general category";
+  print "  // |name|, or null if there is none.";
+  print "  static int[][] category(String name) {";
+  print "    return lookup(CATEGORY_NAMES, CATEGORY_TABLES, name);";
+  print "  }";
+  print ""
+  print "  // script() returns the table for the Unicode script |name|, or null.";
+  print "  static int[][] script(String name) {";
+  print "    return lookup(SCRIPT_NAMES, SCRIPT_TABLES, name);";
+  print "  }";
+  print ""
+  print "  // property() returns the table for the Unicode property |name|, or";
+  print "  // null.";
+  print "  static int[][] property(String name) {";
+  print "    return lookup(PROPERTY_NAMES, PROPERTY_TABLES, name);";
+  print "  }";
+  print ""
+  print "  // foldCategory() returns the table of the code points outside";
+  print "  // category |name| that fold to ones in it, or null.";
+  print "  static int[][] foldCategory(String name) {";
+  print "    return lookup(FOLD_CATEGORY_NAMES, FOLD_CATEGORY_TABLES, name);";
+  print "  }";
+  print ""
+  print "  // foldScript() returns the table of the code points outside";
+  print "  // script |name| that fold to ones in it, or null.";
+  print "  static int[][] foldScript(String name) {";
+  print "    return lookup(FOLD_SCRIPT_NAMES, FOLD_SCRIPT_TABLES, name);";
+  print "  }";
+  print ""
+  print "  private static int[][] lookup(String[] names, int[] ids, String name) {";
+  print "    int i = Arrays.binarySearch(names, name);";
+  print "    return i < 0 ? null : table(ids[i]);";
+  print "  }";
+  print ""
+  print "  // unpack() decodes a packed table: its number of columns and rows,";
+  print "  // then its rows.  The first column of a row is stored as the";
+  print "  // difference from the previous row's, the second as the difference";
+  print "  // from the first, and the rest as they are.  Each number is zig-zag";
+  print "  // encoded and written as base-32 digits, most significant first, in";
+  print "  // '#'..'B' except for the last, in ']'..'|'.";
+  print "  private static int[][] unpack(String s) {";
+  print "    int[] values = new int[s.length()];";
+  print "    int n = 0;";
+  print "    int v = 0;";
+  print "    for (int i = 0; i < s.length(); i++) {";
+  print "      char c = s.charAt(i);";
+  print "      if (c < ']') {";
+  print "        v = v << 5 | (c - '#');";
+  print "      } else {";
+  print "        v = v << 5 | (c - ']');";
+  print "        values[n++] = v >>> 1 ^ -(v & 1);";
+  print "        v = 0;";
+  print "      }";
+  print "    }";
+  print "    int ncols = values[0];";
+  print "    int[][] table = new int[values[1]][ncols];";
+  print "    int k = 2;";
+  print "    int prev = 0;";
+  print "    for (int[] row : table) {";
+  print "      row[0] = prev += values[k++];";
+  print "      if (ncols > 1) {";
+  print "        row[1] = prev + values[k++];";
+  print "      }";
+  print "      for (int j = 2; j < ncols; j++) {";
+  print "        row[j] = values[k++];";
+  print "      }";
+  print "    }";
+  print "    return table;";
+  print "  }";
   print ""
   print "  private UnicodeTables() {}  // uninstantiable";
   print "}"
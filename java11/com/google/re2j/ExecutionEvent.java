@@ -0,0 +1,51 @@
+// Copyright 2026 Google Inc. All Rights Reserved.
+
+package com.google.re2j;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * The fields of the Flight Recorder events for executions of a regexp;
+ * see {@link ExecutionEvents}.
+ */
+@Category("RE2/J")
+@StackTrace(true)
+abstract class ExecutionEvent extends Event {
+
+  @Label("Pattern")
+  String pattern;
+
+  @Label("Anchor")
+  @Description("Where the match must be: none, start or both (whole input)")
+  String anchor;
+
+  @Label("Input Length")
+  @Description("In chars, or in bytes for UTF-8 input")
+  int inputLength;
+
+  @Label("Matched")
+  boolean matched;
+
+  @Label("Engine")
+  @Description("keywords (Aho-Corasick automaton) or machine")
+  String engine;
+
+  /** An execution that took at least the event's threshold. */
+  @Name("com.google.re2j.Execution")
+  @Label("Regexp Execution")
+  @Description("A slow regular expression search")
+  @Threshold("10 ms")
+  static final class Slow extends ExecutionEvent {}
+
+  /** An execution of a large input, however long it took. */
+  @Name("com.google.re2j.LargeInputExecution")
+  @Label("Regexp Execution of a Large Input")
+  @Description("A regular expression search of a large input")
+  static final class LargeInput extends ExecutionEvent {}
+}
@@ -0,0 +1,105 @@
+// Copyright 2026 Google Inc. All Rights Reserved.
+
+package com.google.re2j;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+/**
+ * ExecutionEvents reports executions of regexps to JDK Flight Recorder, as
+ * {@link ExecutionEvent}s.  This version replaces the one in the base
+ * layer of the multi-release jar on Java 11 and later.
+ *
+ * <p>While a recording is running, an execution whose input is at least
+ * {@code com.google.re2j.jfr.inputLengthThreshold} units long (default
+ * 1M) is reported as a {@code com.google.re2j.LargeInputExecution} event,
+ * and any other as a {@code com.google.re2j.Execution} event if it takes
+ * at least that event's threshold (default 10 ms, settable like any
+ * event's).  When no recording is running an execution pays one volatile
+ * read.
+ */
+final class ExecutionEvents {
+
+  private static final int INPUT_LENGTH_THRESHOLD =
+      Integer.getInteger("com.google.re2j.jfr.inputLengthThreshold",
+                         1 << 20);
+
+  // Whether a recording is running, kept up to date by a listener.
+  private static volatile boolean recording;
+
+  static {
+    try {
+      FlightRecorder.addListener(new FlightRecorderListener() {
+        @Override
+        public void recorderInitialized(FlightRecorder recorder) {
+          update(recorder);
+        }
+
+        @Override
+        public void recordingStateChanged(Recording changed) {
+          update(FlightRecorder.getFlightRecorder());
+        }
+      });
+    } catch (LinkageError e) {
+      // The runtime lacks the jdk.jfr module: report nothing.
+    } catch (SecurityException e) {
+      // Not allowed to listen: report nothing.
+    }
+  }
+
+  private ExecutionEvents() {}  // uninstantiable
+
+  // update() sets |recording| to whether |recorder| has a running
+  // recording.
+  private static void update(FlightRecorder recorder) {
+    boolean running = false;
+    for (Recording r : recorder.getRecordings()) {
+      if (r.getState() == RecordingState.RUNNING) {
+        running = true;
+      }
+    }
+    recording = running;
+  }
+
+  // active() reports whether begin() may return an event, that is, whether
+  // a recording is running.
+  static boolean active() {
+    return recording;
+  }
+
+  // begin() starts timing an execution over an input of |inputLength|
+  // units and returns the event to pass to end(), or null if the
+  // execution is not recorded.
+  static Object begin(int inputLength) {
+    ExecutionEvent event = inputLength >= INPUT_LENGTH_THRESHOLD
+        ? new ExecutionEvent.LargeInput()
+        : new ExecutionEvent.Slow();
+    if (!event.isEnabled()) {
+      return null;
+    }
+    event.begin();
+    return event;
+  }
+
+  // end() finishes |event| for an execution of |re2| with the RE2 anchor
+  // |anchor| over an input of |inputLength| units, and commits it if it
+  // reached its threshold.
+  static void end(Object event, RE2 re2, int anchor, int inputLength,
+                  boolean matched) {
+    ExecutionEvent e = (ExecutionEvent) event;
+    e.end();
+    if (!e.shouldCommit()) {
+      return;
+    }
+    e.pattern = re2.expr;
+    e.anchor = anchor == RE2.ANCHOR_BOTH ? "both"
+        : anchor == RE2.ANCHOR_START ? "start"
+        : "none";
+    e.inputLength = inputLength;
+    e.matched = matched;
+    e.engine = re2.literals != null ? "keywords" : "machine";
+    e.commit();
+  }
+}
@@ -0,0 +1,140 @@
+// Copyright 2026 Google Inc. All Rights Reserved.
+
+package com.google.re2j;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.UnsupportedEncodingException;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class AhoCorasickTest {
+
+  private static final String[] LITERAL_ALTERNATIONS = {
+    "foo|bar",
+    "foo|foobar|bar",
+    "foobar|foo|bar",
+    "(abc|bcd|cde|b)",
+    "ab|abc|bc|c",
+    "abcd|bc|bcd",
+    "(?i)kelvin|straße|ab",
+    "(?i:ab)|(?i:ba)",
+    "a|bb|ccc|dddd|abcd",
+    "αβ|β|γδ|𐐀|𐐨x",
+    "x(?:a|b|c)y|xa",
+    "ab(?:c|)|a",
+  };
+
+  private static final String[] NOT_LITERAL_ALTERNATIONS = {
+    "foo",  // only one
+    "a|b",  // one char class
+    "foo|bar*",
+    "(foo)|bar",
+    "^foo|bar",
+    "foo|",
+    "foo|b.r",
+    "(?i:foo)|bar",  // mixes folded and unfolded runes
+    "foo|[a-z]{3}",  // too many
+  };
+
+  @Test
+  public void testForRegexp() {
+    for (String expr : LITERAL_ALTERNATIONS) {
+      assertNotNull(expr, RE2.compile(expr).literals);
+    }
+    for (String expr : NOT_LITERAL_ALTERNATIONS) {
+      assertNull(expr, RE2.compile(expr).literals);
+    }
+  }
+
+  @Test
+  public void testBuild() {
+    AhoCorasick ac = AhoCorasick.build(new int[][] {
+      {'h', 'e'}, {'s', 'h', 'e'}, {'h', 'i', 's'}, {'h', 'e', 'r', 's'},
+    }, AhoCorasick.FOLD_NONE);
+    assertEquals(10, ac.numNodes());
+    int[] bounds = new int[2];
+    MachineInput in = MachineInput.fromUTF16("ushers");
+    assertEquals(true, ac.match(in, 0, RE2.UNANCHORED, false, false, bounds));
+    assertArrayEquals(new int[] {1, 4}, bounds);
+    assertEquals(true, ac.match(in, 2, RE2.UNANCHORED, false, false, bounds));
+    assertArrayEquals(new int[] {2, 4}, bounds);
+    assertEquals(true, ac.match(in, 2, RE2.UNANCHORED, true, false, bounds));
+    assertArrayEquals(new int[] {2, 6}, bounds);
+    assertEquals(false, ac.match(in, 3, RE2.UNANCHORED, false, false, bounds));
+  }
+
+  // Compares the automaton with the machine for the same regexp on random
+  // inputs, in both match modes, with every anchor, in UTF-16 and UTF-8.
+  @Test
+  public void testMatchesMachine() throws UnsupportedEncodingException {
+    Random rand = new Random(1);
+    String alphabet = "abcdefoorxyKkSsßKαβγδ𐐀𐐨";
+    for (String expr : LITERAL_ALTERNATIONS) {
+      for (boolean longest : new boolean[] {false, true}) {
+        RE2 re2 = RE2.compileImpl(expr, RE2.PERL, longest);
+        RE2 machine = RE2.compileImpl(expr, RE2.PERL, longest);
+        machine.literals = null;
+        for (int n = 0; n < 500; n++) {
+          StringBuilder sb = new StringBuilder();
+          int len = rand.nextInt(12);
+          for (int i = 0; i < len; i++) {
+            int j = rand.nextInt(alphabet.length());
+            if (Character.isLowSurrogate(alphabet.charAt(j))) {
+              j--;
+            }
+            sb.appendCodePoint(alphabet.codePointAt(j));
+          }
+          String s = sb.toString();
+          byte[] b = s.getBytes("UTF-8");
+          int ncap = 2 * (re2.numSubexp + 1);
+          int second = s.isEmpty() ? 0 : s.offsetByCodePoints(0, 1);
+          for (int anchor = RE2.UNANCHORED; anchor <= RE2.ANCHOR_BOTH;
+               anchor++) {
+            for (int pos : new int[] {0, second}) {
+              int bpos = s.substring(0, pos).getBytes("UTF-8").length;
+              String msg = expr + " " + longest + " " + anchor + " " + s +
+                  " @" + pos;
+              assertArrayEquals(msg,
+                  machine.doExecute(MachineInput.fromUTF16(s), pos, anchor,
+                                    ncap),
+                  re2.doExecute(MachineInput.fromUTF16(s), pos, anchor, ncap));
+              assertEquals(msg,
+                  machine.doExecute(MachineInput.fromUTF16(s), pos, anchor,
+                                    0) != null,
+                  re2.doExecute(MachineInput.fromUTF16(s), pos, anchor, 0)
+                      != null);
+              assertArrayEquals(msg,
+                  machine.doExecute(MachineInput.fromUTF8(b), bpos, anchor,
+                                    ncap),
+                  re2.doExecute(MachineInput.fromUTF8(b), bpos, anchor, ncap));
+            }
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testPattern() {
+    Pattern p = Pattern.compile("(cat|dog|catalog|do)");
+    assertNotNull(p.re2().literals);
+    Matcher m = p.matcher("a catalog of dogs");
+    StringBuilder found = new StringBuilder();
+    while (m.find()) {
+      found.append(m.group(1)).append(',').append(m.start(1)).append(';');
+    }
+    assertEquals("cat,2;dog,13;", found.toString());
+    assertEquals("a <cat>alog of <dog>s",
+                 p.matcher("a catalog of dogs").replaceAll("<$1>"));
+    assertEquals(true, p.matcher("dog").matches());
+    assertEquals(false, p.matcher("dogs").matches());
+    assertEquals(Arrays.asList("a ", "alog of ", "s"),
+                 Arrays.asList(p.split("a catalog of dogs")));
+  }
+}
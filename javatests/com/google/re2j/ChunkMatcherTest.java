@@ -0,0 +1,124 @@
+// Copyright 2026 Google Inc. All Rights Reserved.
+
+package com.google.re2j;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Tests for {@link ChunkMatcher}.
+ */
+@RunWith(JUnit4.class)
+public class ChunkMatcherTest {
+
+  private static final String TEXT =
+      "first line\nxé世y abc 123\n\n"
+      + "abéc 𐐀 word foo123bar\nbaz 4567 the end";
+
+  // Checks that feeding |text| in chunks of |chunk| bytes finds the same
+  // matches and groups as a Matcher over all the bytes.
+  private static void verify(String regexp, String text, int chunk)
+      throws UnsupportedEncodingException {
+    Pattern p = Pattern.compile(regexp);
+    byte[] bytes = text.getBytes("UTF-8");
+    Matcher m = p.matcherUTF8(bytes);
+    ChunkMatcher cm = p.chunkMatcher();
+    for (int i = 0; i < bytes.length; i += chunk) {
+      int n = Math.min(chunk, bytes.length - i);
+      if (i % 2 == 0) {
+        cm.feed(bytes, i, n);
+      } else {
+        cm.feed(ByteBuffer.wrap(bytes, i, n));
+      }
+      while (cm.find()) {
+        check(regexp, m, cm);
+      }
+    }
+    cm.finish();
+    while (cm.find()) {
+      check(regexp, m, cm);
+    }
+    assertFalse(regexp, m.find());
+    assertTrue(regexp, cm.isDone());
+    assertEquals(bytes.length, cm.length());
+  }
+
+  private static void check(String regexp, Matcher m, ChunkMatcher cm) {
+    assertTrue(regexp, m.find());
+    for (int g = 0; g <= m.groupCount(); g++) {
+      assertEquals(regexp, m.start(g), cm.start(g));
+      assertEquals(regexp, m.end(g), cm.end(g));
+    }
+  }
+
+  @Test
+  public void testSameMatchesAsMatcher() throws UnsupportedEncodingException {
+    String[] regexps = {
+      "a", "[a-z]+", "(\\w+) (\\d+)", "\\b\\w", "(?m)^.*$", "(?m)$",
+      "é", "世(.)", "[^a-z ]+", "x*", "\\d+$", "^f", "\\Bd",
+      "(o)(o)?", "𐐀|z", "(?U)a.*c", "a.*c", "(a|ab)(c|bcd)?",
+      "^", "$", "\\z", "[\\s\\S]", "(?s).", "(x*)(\\d*)",
+    };
+    for (String regexp : regexps) {
+      for (int chunk = 1; chunk <= 5; chunk++) {
+        verify(regexp, TEXT, chunk);
+      }
+      verify(regexp, TEXT, 1000);
+      verify(regexp, "", 1);
+    }
+  }
+
+  @Test
+  public void testMatchCompletesOnLaterChunk() {
+    ChunkMatcher cm = Pattern.compile("ab+$").chunkMatcher();
+    cm.feed(new byte[] {'x', 'a'});
+    assertFalse(cm.find());
+    cm.feed(new byte[] {'b', 'b'});
+    assertFalse(cm.find());  // might be followed by more
+    cm.finish();
+    assertTrue(cm.find());
+    assertEquals(1, cm.start());
+    assertEquals(4, cm.end());
+    assertFalse(cm.find());
+  }
+
+  @Test
+  public void testBoundedBuffer() throws UnsupportedEncodingException {
+    ChunkMatcher cm = Pattern.compile("<(\\d+)>").chunkMatcher();
+    int n = 0;
+    for (int i = 0; i < 20000; i++) {
+      cm.feed((i % 97 == 0 ? "<" + i + ">" : "filler téxt ")
+          .getBytes("UTF-8"));
+      while (cm.find()) {
+        n++;
+      }
+    }
+    cm.finish();
+    assertFalse(cm.find());
+    assertEquals(207, n);
+    assertTrue(cm.bufferSize() <= 1024);
+    assertTrue(cm.length() > 250000);
+  }
+
+  @Test
+  public void testFeedAfterFinish() {
+    ChunkMatcher cm = Pattern.compile("a").chunkMatcher();
+    cm.finish();
+    cm.finish();
+    try {
+      cm.feed(new byte[1]);
+      fail();
+    } catch (IllegalStateException e) {
+      // expected
+    }
+  }
+}
@@ -222,6 +222,25 @@ public class ExecTest {
             continue;
           }
 
+          // findIndex runs the capture-free program; it must agree.
+          int[] haveIndex = regexp.findIndex(text);
+          if (multibyte && haveIndex != null) {
+            haveIndex = utf16IndicesToUtf8(haveIndex, text);
+          }
+          int[] wantIndex = want == null ? null : Arrays.copyOf(want, 2);
+          if (!Arrays.equals(wantIndex, haveIndex)) {
+            System.err.format(
+                "%s:%d: %s[partial=%b,longest=%b].findIndex(%s) = " +
+                "%s, want %s\n",
+                file, lineno, re, partial, longest, text,
+                Arrays.toString(haveIndex),
+                Arrays.toString(wantIndex));
+            if (++nfail >= 100) {
+              fail("stopping after " + nfail + " errors");
+            }
+            continue;
+          }
+
           regexp.longest = longest;
           boolean b = regexp.match(text);
           if (b != (want != null)) {
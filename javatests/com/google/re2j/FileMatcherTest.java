@@ -0,0 +1,231 @@
+// Copyright 2026 Google Inc. All Rights Reserved.
+
+package com.google.re2j;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Tests for {@link FileMatcher}, using tiny chunks and windows so that
+ * matches straddle both.
+ */
+@RunWith(JUnit4.class)
+public class FileMatcherTest {
+
+  private static final String TEXT =
+      "first line\nx\u00e9\u4e16y abc 123\n\n"
+      + "ab\u00e9c \ud801\udc00 word foo123bar\nbaz 4567 the end";
+
+  private static File writeTemp(String text) throws IOException {
+    File f = File.createTempFile("re2j", ".txt");
+    f.deleteOnExit();
+    FileOutputStream out = new FileOutputStream(f);
+    try {
+      out.write(text.getBytes("UTF-8"));
+    } finally {
+      out.close();
+    }
+    return f;
+  }
+
+  // Checks that the FileMatcher finds the same matches and groups as a
+  // Matcher over the same bytes.
+  private static void verify(String regexp, String text, int chunkShift,
+                             int window) throws IOException {
+    Pattern p = Pattern.compile(regexp);
+    byte[] bytes = text.getBytes("UTF-8");
+    Matcher m = p.matcherUTF8(bytes);
+    FileMatcher fm = new FileMatcher(p, writeTemp(text), chunkShift, window);
+    try {
+      assertEquals(bytes.length, fm.size());
+      while (m.find()) {
+        assertTrue(regexp, fm.find());
+        for (int g = 0; g <= m.groupCount(); g++) {
+          assertEquals(regexp, m.start(g), fm.start(g));
+          assertEquals(regexp, m.end(g), fm.end(g));
+          assertEquals(regexp, m.group(g), fm.group(g));
+        }
+      }
+      assertFalse(regexp, fm.find());
+    } finally {
+      fm.close();
+    }
+  }
+
+  @Test
+  public void testMatchesAcrossChunks() throws IOException {
+    String[] regexps = {
+      "a", "[a-z]+", "(\\w+) (\\d+)", "\\b\\w", "(?m)^.*$", "(?m)$",
+      "\u00e9", "\u4e16(.)", "[^a-z ]+", "x*", "\\d+$", "^f", "\\Bd",
+      "(o)(o)?", "\ud801\udc00|z",
+    };
+    for (String regexp : regexps) {
+      for (int shift = 2; shift <= 5; shift++) {
+        verify(regexp, TEXT, shift, 64);
+      }
+      verify(regexp, TEXT, 30, 1 << 30);
+    }
+  }
+
+  @Test
+  public void testSlidingWindow() throws IOException {
+    StringBuilder b = new StringBuilder();
+    for (int i = 0; i < 200; i++) {
+      b.append(i % 7 == 0 ? "key=" + i + ";\n" : "\u00e9tc ");
+    }
+    String text = b.toString();
+    verify("key=(\\d+);", text, 4, 40);
+    verify("(?m)^\u00e9", text, 4, 40);
+    verify("\\d+;\n\u00e9", text, 3, 32);
+  }
+
+  @Test
+  public void testSlidingWindowOverMultiByteText() throws IOException {
+    // The window slides to offsets inside multi-byte sequences.
+    verify("c|x", "\u00e9xKkK1\n\u00e9sxsssssss xaaaaaaaaaaaaaa \u00e9xK"
+        + "\u00e9\u00e9\u00e9\u00e9\u00e9\u00e9\u00e9\u00e9\u00e9\u00e9"
+        + "\u00e9\u00e9\u00e9\u00e9\u00e9ax\n\u00e9\nbcx1\n kk\u00e9b1 1 "
+        + "\n  \nx\u00e9\u00e9", 4, 24);
+    StringBuilder b = new StringBuilder("111111111111111b");
+    for (int i = 0; i < 10; i++) {
+      b.append('\u00e9');
+    }
+    for (int i = 0; i < 22; i++) {
+      b.append('a');
+    }
+    verify("(?m:^)", b.append(" 1").toString(), 4, 19);
+
+    String[] regexps = {
+      "c|x", "(?m:^)", "[^a-z ]", "\u00e9|\u4e16", "\\b\\w", "x\u00e9?",
+    };
+    String[] pieces = {
+      "a", "c", "x", " ", "\n", "\u00e9", "\u4e16", "\ud801\udc00",
+    };
+    Random rand = new Random(1);
+    for (int n = 0; n < 30; n++) {
+      b = new StringBuilder();
+      for (int i = rand.nextInt(80); i > 0; i--) {
+        b.append(pieces[rand.nextInt(pieces.length)]);
+      }
+      String text = b.toString();
+      for (String regexp : regexps) {
+        verify(regexp, text, 3, 16 + rand.nextInt(24));
+      }
+    }
+  }
+
+  @Test
+  public void testMatchAtWindowEnd() throws IOException {
+    // The end of a window, or a rune cut off by it, is not the end of the
+    // text.
+    String[] regexps = {
+      "(?:.|[a-c]|c{18,20})+\\z", "\\w+$", "(?m)\\w+$", "\\w\\b", "a\\B",
+      "[ab]+",
+    };
+    String[] pieces = {"a", "b", "c", " ", "\n", "\u00e9"};
+    Random rand = new Random(2);
+    for (int n = 0; n < 30; n++) {
+      StringBuilder b = new StringBuilder();
+      for (int i = rand.nextInt(120); i > 0; i--) {
+        b.append(pieces[rand.nextInt(pieces.length)]);
+      }
+      String text = b.toString();
+      for (String regexp : regexps) {
+        verify(regexp, text, 3, 16 + rand.nextInt(24));
+      }
+    }
+  }
+
+  @Test
+  public void testLineNumberAndSlice() throws IOException {
+    FileMatcher fm =
+        new FileMatcher(Pattern.compile("\\d+"), writeTemp(TEXT), 3, 32);
+    try {
+      assertTrue(fm.find());
+      assertEquals(2, fm.lineNumber());
+      assertEquals("123", fm.group());
+      assertEquals(3, fm.slice().remaining());
+      assertTrue(fm.slice().isReadOnly());
+      assertTrue(fm.find());
+      assertEquals(4, fm.lineNumber());
+      assertTrue(fm.find());
+      assertEquals(5, fm.lineNumber());
+      assertEquals('4', fm.slice().get(0));
+      assertFalse(fm.find());
+      assertTrue(fm.find(0));
+      assertEquals(2, fm.lineNumber());
+    } finally {
+      fm.close();
+    }
+  }
+
+  @Test
+  public void testFindLine() throws IOException {
+    String[] regexps = {"\\d+", "^a", "c$", "^$", "(?s)b.", "(\\w)\\z"};
+    String text = "abc\nx12y3\n\nab\n45c\n";
+    for (String regexp : regexps) {
+      Pattern p = Pattern.compile(regexp);
+      LineMatcher lm = p.lineMatcher(text);
+      FileMatcher fm = new FileMatcher(p, writeTemp(text), 2, 16);
+      try {
+        while (lm.find()) {
+          assertTrue(regexp, fm.findLine());
+          assertEquals(regexp, lm.lineStart(), fm.lineStart());
+          assertEquals(regexp, lm.lineEnd(), fm.lineEnd());
+          assertEquals(regexp, lm.start(), fm.start());
+          assertEquals(regexp, lm.end(), fm.end());
+          assertEquals(regexp, lm.line(), fm.line());
+          assertEquals(regexp, lm.lineNumber(), fm.lineNumber());
+          if (fm.groupCount() > 0) {
+            assertEquals(regexp, fm.end() - 1, fm.start(1));
+          }
+        }
+        assertFalse(regexp, fm.findLine());
+      } finally {
+        fm.close();
+      }
+    }
+  }
+
+  @Test
+  public void testEmptyFileAndUnmatchedGroup() throws IOException {
+    File empty = writeTemp("");
+    FileMatcher fm = Pattern.compile("x*").fileMatcher(empty);
+    try {
+      assertTrue(fm.find());
+      assertEquals(0, fm.start());
+      assertEquals(0, fm.end());
+      assertFalse(fm.find());
+    } finally {
+      fm.close();
+    }
+
+    fm = Pattern.compile("(a)|(b)").fileMatcher(writeTemp("b"));
+    try {
+      assertTrue(fm.find());
+      assertEquals(-1, fm.start(1));
+      assertNull(fm.group(1));
+      assertEquals("b", fm.group(2));
+    } finally {
+      fm.close();
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testClosed() throws IOException {
+    FileMatcher fm = Pattern.compile("a").fileMatcher(writeTemp("a"));
+    fm.close();
+    fm.find();
+  }
+}
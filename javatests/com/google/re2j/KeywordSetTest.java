@@ -0,0 +1,173 @@
+// Copyright 2026 Google Inc. All Rights Reserved.
+
+package com.google.re2j;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class KeywordSetTest {
+
+  private static String find(KeywordSet set, String input) {
+    StringBuilder sb = new StringBuilder();
+    KeywordMatcher m = set.matcher(input);
+    while (m.find()) {
+      sb.append(m.start()).append('-').append(m.end()).append(':')
+          .append(m.keyword()).append(' ');
+    }
+    return sb.toString().trim();
+  }
+
+  @Test
+  public void testFind() {
+    List<String> words = Arrays.asList("he", "she", "his", "hers", "she");
+    assertEquals("1-4:1 7-9:0",
+                 find(KeywordSet.compile(words), "ushers he"));
+    assertEquals("1-4:1 7-9:0",
+                 find(KeywordSet.compile(words, KeywordSet.LONGEST_MATCH),
+                      "ushers he"));
+    assertEquals("0-4:3 5-7:0",
+                 find(KeywordSet.compile(words, KeywordSet.LONGEST_MATCH),
+                      "hers he"));
+    assertEquals("0-2:0 5-7:0", find(KeywordSet.compile(words), "hers he"));
+    assertEquals("", find(KeywordSet.compile(words), "HERS"));
+    assertEquals("0-2:0",
+                 find(KeywordSet.compile(words,
+                                         KeywordSet.CASE_INSENSITIVE_ASCII),
+                      "HErS"));
+  }
+
+  @Test
+  public void testMatcher() throws UnsupportedEncodingException {
+    KeywordSet set = KeywordSet.compile(Arrays.asList("αβ", "γ", "x"));
+    KeywordMatcher m = set.matcherUTF8("xαβ γ".getBytes("UTF-8"));
+    assertEquals(true, m.find());
+    assertEquals("x", m.group());
+    assertEquals(true, m.find());
+    assertEquals(1, m.start());
+    assertEquals(5, m.end());
+    assertEquals("αβ", m.group());
+    assertEquals(true, m.find());
+    assertEquals(1, m.keyword());
+    assertEquals(false, m.find());
+    assertEquals(false, m.find());
+    try {
+      m.start();
+      fail();
+    } catch (IllegalStateException expected) {
+    }
+    assertEquals(true, m.find(2));
+    assertEquals("γ", m.group());
+    assertEquals(true, m.reset().find());
+    assertEquals(0, m.start());
+    assertEquals(set, m.keywordSet());
+  }
+
+  @Test
+  public void testContains() {
+    KeywordSet set = KeywordSet.compile(
+        Arrays.asList("foo", "foobar", "Bar", "foo"),
+        KeywordSet.CASE_INSENSITIVE_ASCII);
+    assertEquals(4, set.size());
+    assertEquals(true, set.contains("FOO"));
+    assertEquals(0, set.indexOf("foo"));
+    assertEquals(1, set.indexOf("fooBAR"));
+    assertEquals(2, set.indexOf("bar"));
+    assertEquals(-1, set.indexOf("fooba"));
+    assertEquals(-1, set.indexOf(""));
+  }
+
+  @Test
+  public void testBadArguments() {
+    try {
+      KeywordSet.compile(Arrays.asList("a", ""));
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+    try {
+      KeywordSet.compile(Collections.singletonList("a"), 4);
+      fail();
+    } catch (IllegalArgumentException expected) {
+    }
+  }
+
+  // Compares the set with the alternation of its keywords.
+  @Test
+  public void testMatchesPattern() {
+    Random rand = new Random(1);
+    for (int trial = 0; trial < 50; trial++) {
+      List<String> words = new ArrayList<String>();
+      StringBuilder regexp = new StringBuilder();
+      int n = 1 + rand.nextInt(20);
+      for (int i = 0; i < n; i++) {
+        String w = randomString(rand, 1 + rand.nextInt(4));
+        words.add(w);
+        if (i > 0) {
+          regexp.append('|');
+        }
+        regexp.append(Pattern.quote(w));
+      }
+      for (int flags = 0; flags < 4; flags++) {
+        KeywordSet set = KeywordSet.compile(words, flags);
+        String expr = ((flags & KeywordSet.CASE_INSENSITIVE_ASCII) != 0
+            ? "(?i)" : "") + "(?:" + regexp + ")";
+        RE2 re2 = RE2.compileImpl(expr, RE2.PERL,
+                                  (flags & KeywordSet.LONGEST_MATCH) != 0);
+        for (int j = 0; j < 20; j++) {
+          String input = randomString(rand, rand.nextInt(30));
+          StringBuilder want = new StringBuilder();
+          StringBuilder got = new StringBuilder();
+          KeywordMatcher m = set.matcher(input);
+          int pos = 0;
+          int[] cap;
+          while ((cap = re2.doExecute(MachineInput.fromUTF16(input), pos,
+                                      RE2.UNANCHORED, 2)) != null) {
+            want.append(cap[0]).append('-').append(cap[1]).append(' ');
+            pos = cap[1];
+          }
+          while (m.find()) {
+            got.append(m.start()).append('-').append(m.end()).append(' ');
+            String w = words.get(m.keyword());
+            if (!w.equalsIgnoreCase(m.group())) {
+              fail(words + " " + input + ": " + m.group() + " is not " + w);
+            }
+          }
+          assertEquals(expr + " " + input, want.toString(), got.toString());
+        }
+      }
+    }
+  }
+
+  private static String randomString(Random rand, int n) {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < n; i++) {
+      sb.append("abcABé".charAt(rand.nextInt(6)));
+    }
+    return sb.toString();
+  }
+
+  @Test
+  public void testLarge() {
+    List<String> words = new ArrayList<String>();
+    for (int i = 0; i < 200000; i++) {
+      words.add("k" + Integer.toString(i * 7919, 36));
+    }
+    KeywordSet set = KeywordSet.compile(words);
+    assertEquals(200000, set.size());
+    assertEquals(12345, set.indexOf("k" + Integer.toString(12345 * 7919, 36)));
+    String input = "..." + words.get(199999) + "...";
+    KeywordMatcher m = set.matcher(input);
+    assertEquals(true, m.find());
+    assertEquals(3, m.start());
+    assertEquals(input.length() - 3, m.end());
+    assertEquals(199999, m.keyword());
+  }
+}
@@ -0,0 +1,102 @@
+// Copyright 2026 Google Inc. All Rights Reserved.
+
+package com.google.re2j;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Tests for {@link LineMatcher}.
+ */
+@RunWith(JUnit4.class)
+public class LineMatcherTest {
+
+  private static final String[] TEXTS = {
+    "",
+    "\n",
+    "abc",
+    "abc\n",
+    "first line\nxé世y abc 123\n\nabéc word foo123bar\nbaz 4567 the end",
+    "a\n\nb\n\n",
+  };
+
+  private static final String[] REGEXPS = {
+    "a", "^a", "c$", "^$", "\\Aab", "c\\z", "\\d+", "\\bw", "é.", "x*",
+    "[^a-z]", "(?s)b.", "[\\s]b", "\\n", "^.*$",
+  };
+
+  // Returns "number:line" for each line of |text| in which |p| finds a
+  // match when the line is matched on its own.
+  private static List<String> grep(Pattern p, String text) {
+    List<String> out = new ArrayList<String>();
+    if (text.isEmpty()) {
+      return out;
+    }
+    String[] lines = text.split("\n", -1);
+    int n = text.endsWith("\n") ? lines.length - 1 : lines.length;
+    for (int i = 0; i < n; i++) {
+      if (p.matcher(lines[i]).find()) {
+        out.add((i + 1) + ":" + lines[i]);
+      }
+    }
+    return out;
+  }
+
+  @Test
+  public void testSameLinesAsPerLineMatching()
+      throws UnsupportedEncodingException {
+    for (String regexp : REGEXPS) {
+      Pattern p = Pattern.compile(regexp);
+      for (String text : TEXTS) {
+        List<String> want = grep(p, text);
+        for (int k = 0; k < 2; k++) {
+          LineMatcher m = k == 0
+              ? p.lineMatcher(text)
+              : p.lineMatcher(text.getBytes("UTF-8"));
+          List<String> got = new ArrayList<String>();
+          while (m.find()) {
+            got.add(m.lineNumber() + ":" + m.line());
+            assertTrue(m.lineStart() <= m.start());
+            assertTrue(m.end() <= m.lineEnd());
+          }
+          assertEquals(regexp + " on " + text, want, got);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testMatchPositions() {
+    LineMatcher m = Pattern.compile("\\d+").lineMatcher("ab\nx12y3\n\n45");
+    assertTrue(m.find());
+    assertEquals(3, m.lineStart());
+    assertEquals(8, m.lineEnd());
+    assertEquals(4, m.start());
+    assertEquals(6, m.end());
+    assertTrue(m.find());
+    assertEquals(4, m.lineNumber());
+    assertEquals("45", m.line());
+    assertFalse(m.find());
+    m.reset();
+    assertTrue(m.find());
+    assertEquals(2, m.lineNumber());
+  }
+
+  @Test
+  public void testLineRE2() {
+    assertNull(RE2.compile("a\\nb").lineRE2());
+    assertNull(RE2.compile("(?s).").lineRE2());
+    assertNull(RE2.compile("[^a]").lineRE2());
+    assertTrue(RE2.compile("^a.$").lineRE2() != null);
+  }
+}
@@ -7,6 +7,11 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
@@ -347,4 +352,167 @@ public class MatcherTest {
     assertFalse(m.find());
   }
 
+  @Test
+  public void testSelectiveGroups() {
+    Pattern p = Pattern.compile("(\\w+)=(\\w+)(;)?|(\\d+)");
+    Matcher m = p.matcher("x 12 key=val; k=v", 2, 4);
+    assertTrue(m.find());
+    assertEquals("12", m.group());
+    assertEquals(null, m.group(2));
+    assertEquals("12", m.group(4));
+    assertTrue(m.find());
+    assertEquals("key=val;", m.group());
+    assertEquals("val", m.group(2));
+    assertEquals(9, m.start(2));
+    assertEquals(12, m.end(2));
+    assertEquals(null, m.group(4));
+    try {
+      m.group(1);
+      fail();
+    } catch (IllegalArgumentException e) {
+      assertTrue(true);
+    }
+    assertTrue(m.find());
+    assertEquals("v", m.group(2));
+    assertFalse(m.find());
+  }
+
+  @Test
+  public void testSelectiveGroupsOutOfRange() {
+    try {
+      Pattern.compile("(a)").matcher("a", 2);
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+      assertTrue(true);
+    }
+  }
+
+  // Returns the positions of all matches of |regexp| in |input|.
+  private static List<Integer> findPositions(String regexp,
+                                             CharSequence input) {
+    List<Integer> positions = new ArrayList<Integer>();
+    Matcher m = Pattern.compile(regexp).matcher(input);
+    while (m.find()) {
+      for (int g = 0; g <= m.groupCount(); g++) {
+        positions.add(m.start(g));
+        positions.add(m.end(g));
+      }
+    }
+    return positions;
+  }
+
+  @Test
+  public void testCharSequenceInputs() {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < 300; i++) {
+      sb.append("xy\uD800\uDC00 ab\u00e9\nabc").appendCodePoint(0x1F600 + i);
+    }
+    final String text = sb.toString();
+    CharBuffer direct = ByteBuffer.allocateDirect(2 * text.length())
+        .asCharBuffer();
+    direct.put(text).flip();
+    CharSequence custom = new CharSequence() {
+      @Override public int length() { return text.length(); }
+      @Override public char charAt(int i) { return text.charAt(i); }
+      @Override public CharSequence subSequence(int s, int e) {
+        return text.subSequence(s, e);
+      }
+      @Override public String toString() { return text; }
+    };
+    String[] regexps = {
+      "abc", "(a)(b)?\\b", "(?m)^a(.)", "\\x{1F601}+", "[\\x{10000}-\\x{1FFFF}]",
+      "\\Bb", "c$", "(?m)c$",
+    };
+    for (String regexp : regexps) {
+      List<Integer> want = findPositions(regexp, text);
+      assertEquals(regexp, want, findPositions(regexp, new StringBuilder(text)));
+      assertEquals(regexp, want, findPositions(regexp, CharBuffer.wrap(text)));
+      assertEquals(regexp, want,
+          findPositions(regexp, CharBuffer.wrap(text.toCharArray())));
+      assertEquals(regexp, want, findPositions(regexp, direct));
+      assertEquals(regexp, want, findPositions(regexp, custom));
+    }
+  }
+
+  @Test
+  public void testResetCharArray() {
+    char[] chars = "--ab-abb-".toCharArray();
+    Matcher m = Pattern.compile("ab+").matcher("");
+    m.reset(chars, 2, 6);
+    assertTrue(m.find());
+    assertEquals(0, m.start());
+    assertEquals("ab", m.group());
+    assertTrue(m.find());
+    assertEquals(3, m.start());
+    assertEquals("abb", m.group());
+    assertFalse(m.find());
+    assertFalse(m.reset(chars, 2, 6).matches());
+    assertTrue(m.reset(chars, 5, 3).matches());
+    try {
+      m.reset(chars, 5, 5);
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+      assertTrue(true);
+    }
+  }
+
+  // Returns the UTF-8 offsets of all groups of all matches of |m|.
+  private static List<Integer> findUTF8Positions(Matcher m, List<String> groups)
+      throws Exception {
+    List<Integer> positions = new ArrayList<Integer>();
+    while (m.find()) {
+      for (int g = 0; g <= m.groupCount(); g++) {
+        positions.add(m.start(g));
+        positions.add(m.end(g));
+        groups.add(m.group(g));
+      }
+    }
+    return positions;
+  }
+
+  @Test
+  public void testByteBufferInput() throws Exception {
+    String text = "x\u00e9y \u00e9\u00e9 a\u2655b\n\uD83D\uDE00ab\u00e9 b";
+    byte[] utf8 = text.getBytes("UTF-8");
+    String[] regexps = {
+      "\u00e9+", "(a)(.)(b)?", "\\b\\w", "(?m)^.", "\\x{1F600}(a)", "b$",
+    };
+    for (String regexp : regexps) {
+      Pattern p = Pattern.compile(regexp);
+      List<Integer> want = new ArrayList<Integer>();
+      List<String> wantGroups = new ArrayList<String>();
+      Matcher m = p.matcher(text);
+      while (m.find()) {
+        for (int g = 0; g <= m.groupCount(); g++) {
+          want.add(m.start(g) < 0 ? -1
+              : text.substring(0, m.start(g)).getBytes("UTF-8").length);
+          want.add(m.end(g) < 0 ? -1
+              : text.substring(0, m.end(g)).getBytes("UTF-8").length);
+          wantGroups.add(m.group(g));
+        }
+      }
+
+      ByteBuffer direct = ByteBuffer.allocateDirect(utf8.length + 5);
+      direct.put(new byte[] {'a', 'b', 'c'}).put(utf8).put((byte) 'b');
+      direct.position(3).limit(3 + utf8.length);
+      ByteBuffer heap = ByteBuffer.allocate(utf8.length + 5);
+      heap.put(new byte[] {'a', 'b'}).put(utf8).put((byte) 'b').flip();
+      heap.position(2).limit(2 + utf8.length);
+      ByteBuffer[] inputs = {
+        ByteBuffer.wrap(utf8), direct, heap, heap.slice(),
+      };
+      for (ByteBuffer input : inputs) {
+        List<String> groups = new ArrayList<String>();
+        assertEquals(regexp, want, findUTF8Positions(p.matcherUTF8(input), groups));
+        assertEquals(regexp, wantGroups, groups);
+      }
+      List<String> groups = new ArrayList<String>();
+      assertEquals(regexp, want, findUTF8Positions(p.matcherUTF8(utf8), groups));
+      assertEquals(3, direct.position());
+    }
+    assertTrue(Pattern.compile("(?s)x\u00e9.*b").matcherUTF8(utf8).matches());
+    assertFalse(Pattern.compile("(?s)x\u00e9.*a").matcherUTF8(utf8).matches());
+    assertTrue(Pattern.compile("x\u00e9.").matcherUTF8(utf8).lookingAt());
+  }
+
 }
@@ -0,0 +1,235 @@
+// Copyright 2026 Google Inc. All Rights Reserved.
+
+package com.google.re2j;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Tests for {@link ParallelSearch} and the parallel {@code Pattern} methods.
+ */
+@RunWith(JUnit4.class)
+public class ParallelSearchTest {
+
+  private static ExecutorService executor;
+
+  @BeforeClass
+  public static void startExecutor() {
+    executor = Executors.newFixedThreadPool(4);
+  }
+
+  @AfterClass
+  public static void stopExecutor() {
+    executor.shutdown();
+  }
+
+  private static final String[] TEXTS = {
+    "",
+    "a",
+    "aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa",
+    "first line\nxé世y abc 123\n\nabéc 𐐀 word foo123bar\nbaz 4567 the end",
+    "abababababababaabbbabababbababababbbbbbabababaabababababbbabbbab",
+    "<a><bb><ccc></ccc></bb></a> <a href=x>y</a> <<<>>> <x></x>",
+  };
+
+  private static final String[] REGEXPS = {
+    "a", "a+", "a*", "ab", "(ab)+", "b*a", "a|ab|abb", "[a-z]+",
+    "\\b\\w", "\\d+", "(?m)^.*$", "$", "^", "<[^>]*>", "<.*?>", "<.*>",
+    "(?s).{7}", "x*", "\\B", "a.{3}b",
+  };
+
+  // Returns the bounds of the matches that Matcher.find() reports.
+  private static int[] sequential(Matcher m) {
+    List<Integer> out = new ArrayList<Integer>();
+    while (m.find()) {
+      out.add(m.start());
+      out.add(m.end());
+    }
+    int[] a = new int[out.size()];
+    for (int i = 0; i < a.length; i++) {
+      a[i] = out.get(i);
+    }
+    return a;
+  }
+
+  @Test
+  public void testSameMatchesAsMatcher() throws UnsupportedEncodingException {
+    for (String regexp : REGEXPS) {
+      Pattern p = Pattern.compile(regexp);
+      for (String text : TEXTS) {
+        int[] want = sequential(p.matcher(text));
+        byte[] utf8 = text.getBytes("UTF-8");
+        int[] wantUTF8 = sequential(p.matcherUTF8(utf8));
+        for (int nchunks = 1; nchunks <= 13; nchunks++) {
+          assertArrayEquals(regexp + " on " + text + " in " + nchunks, want,
+              new ParallelSearch(p.re2(), text).findAll(executor, nchunks));
+          assertArrayEquals(regexp + " on " + text + " in " + nchunks,
+              wantUTF8,
+              new ParallelSearch(p.re2(), utf8).findAll(executor, nchunks));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testReplaceAll() {
+    String[] replacements = {"", "<$0>", "$1", "\\$x$$"};
+    for (String regexp : REGEXPS) {
+      Pattern p = Pattern.compile("(" + regexp + ")");
+      for (String text : TEXTS) {
+        for (String replacement : replacements) {
+          String want = p.matcher(text).replaceAll(replacement);
+          for (int nchunks = 1; nchunks <= 7; nchunks++) {
+            assertEquals(regexp + " on " + text, want,
+                new ParallelSearch(p.re2(), text)
+                    .replaceAll(p, replacement, executor, nchunks));
+          }
+        }
+      }
+    }
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testReplaceAllBadGroup() {
+    Pattern.compile("a").replaceAll("banana", "$1", executor);
+  }
+
+  // A CharSequence that counts the chars read from it.
+  private static final class CountingSequence implements CharSequence {
+    final String s;
+    final AtomicLong reads = new AtomicLong();
+
+    CountingSequence(String s) {
+      this.s = s;
+    }
+
+    @Override
+    public char charAt(int i) {
+      reads.incrementAndGet();
+      return s.charAt(i);
+    }
+
+    @Override
+    public int length() {
+      return s.length();
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+      return s.subSequence(start, end);
+    }
+
+    @Override
+    public String toString() {
+      return s;
+    }
+  }
+
+  // Returns |text| as the |kind|th of the MachineInput implementations.
+  private static MachineInput input(String text, int kind) {
+    switch (kind) {
+      case 0:
+        return MachineInput.fromUTF16(text);
+      case 1:
+        return MachineInput.fromUTF16(new StringBuilder(text));
+      case 2:
+        return MachineInput.fromUTF16(CharBuffer.wrap(text.toCharArray()));
+      case 3:
+        return MachineInput.fromUTF16((CharBuffer)
+            ByteBuffer.allocateDirect(2 * text.length()).asCharBuffer()
+                .put(text).flip());
+      case 4:
+        return MachineInput.fromUTF8(text.getBytes());
+      default:
+        byte[] b = text.getBytes();
+        return MachineInput.fromUTF8(
+            (ByteBuffer) ByteBuffer.allocateDirect(b.length).put(b).flip(),
+            0, b.length);
+    }
+  }
+
+  @Test
+  public void testSearchBefore() {
+    String text = "..x12y....z9y..x1";
+    String[] regexps = {"[xz][0-9]+y", "z9y|x12y", "x1"};
+    for (String regexp : regexps) {
+      RE2 re2 = RE2.compile(regexp);
+      for (int kind = 0; kind < 6; kind++) {
+        for (int pos = 0; pos <= text.length(); pos++) {
+          int[] want = re2.doExecute(input(text, kind), pos,
+                                     RE2.UNANCHORED, 2);
+          for (int limit = pos; limit <= text.length() + 1; limit++) {
+            int[] got = re2.doExecuteBefore(input(text, kind), pos, limit, 2);
+            String what = regexp + " " + kind + " " + pos + " " + limit;
+            if (want != null && want[0] < limit) {
+              assertArrayEquals(what, want, got);
+            } else {
+              assertEquals(what, null, got);
+            }
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testNoMatchReadsEachChunkOnce() {
+    // Without matches, each chunk's search stops at the end of its chunk
+    // instead of reading on to the end of the input.
+    char[] chars = new char[1 << 20];
+    Arrays.fill(chars, 'x');
+    String text = new String(chars);
+    for (String regexp : new String[] {"[xz][0-9]+y", "xxy|zzy", "q"}) {
+      RE2 re2 = RE2.compile(regexp);
+      CountingSequence sequential = new CountingSequence(text);
+      assertEquals(0, new ParallelSearch(re2, sequential)
+          .findAll(executor, 1).length);
+      CountingSequence parallel = new CountingSequence(text);
+      assertEquals(0, new ParallelSearch(re2, parallel)
+          .findAll(executor, 16).length);
+      assertTrue(regexp + ": " + parallel.reads + " reads, sequentially "
+                 + sequential.reads,
+                 parallel.reads.get() < sequential.reads.get() * 3 / 2);
+    }
+  }
+
+  @Test
+  public void testLargeInput() throws UnsupportedEncodingException {
+    StringBuilder b = new StringBuilder();
+    for (int i = 0; i < 100000; i++) {
+      b.append(i % 13 == 0 ? "key=" + i + "; " : "fïller ");
+    }
+    String text = b.toString();
+    Pattern p = Pattern.compile("key=(\\d+);|f\\S+ f\\S+");
+    int[] want = sequential(p.matcher(text));
+    List<int[]> got = p.findAll(text, executor);
+    assertEquals(want.length / 2, got.size());
+    for (int i = 0; i < got.size(); i++) {
+      assertEquals(want[2 * i], got.get(i)[0]);
+      assertEquals(want[2 * i + 1], got.get(i)[1]);
+    }
+    assertEquals(want.length / 2, p.count(text, executor));
+    assertEquals(p.matcher(text).replaceAll("[$1]"),
+                 p.replaceAll(text, "[$1]", executor));
+    byte[] utf8 = text.getBytes("UTF-8");
+    assertEquals(sequential(p.matcherUTF8(utf8)).length / 2,
+                 p.count(utf8, executor));
+  }
+}
@@ -0,0 +1,143 @@
+// Copyright 2026 Google Inc. All Rights Reserved.
+
+package com.google.re2j;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Tests for {@link PatternCache}.
+ */
+@RunWith(JUnit4.class)
+public class PatternCacheTest {
+
+  @Test
+  public void testHitsAndMisses() {
+    PatternCache cache = new PatternCache(100, 100000);
+    Pattern p = cache.compile("a+b", 0);
+    assertSame(p, cache.compile("a+b", 0));
+    assertNotSame(p, cache.compile("a+b", Pattern.CASE_INSENSITIVE));
+    assertEquals(1, cache.hitCount());
+    assertEquals(2, cache.missCount());
+    assertEquals(2, cache.size());
+    assertEquals(p.re2().prog.numInst()
+        + cache.compile("a+b", Pattern.CASE_INSENSITIVE).re2().prog.numInst(),
+        cache.weight());
+    assertEquals(Pattern.CASE_INSENSITIVE,
+        cache.compile("a+b", Pattern.CASE_INSENSITIVE).flags());
+  }
+
+  @Test
+  public void testEvictsLeastRecentlyUsed() {
+    PatternCache cache = new PatternCache(1, 100000);
+    Pattern a = cache.compile("a", 0);
+    cache.compile("b", 0);
+    assertEquals(1, cache.size());
+    assertEquals(1, cache.evictionCount());
+    assertNotSame(a, cache.compile("a", 0));
+
+    // Entry limit.
+    cache = new PatternCache(4, 100000);
+    for (int i = 0; i < 100; i++) {
+      cache.compile("x" + i, 0);
+    }
+    assertTrue(cache.size() <= 4);
+    assertEquals(100 - cache.size(), cache.evictionCount());
+  }
+
+  @Test
+  public void testWeightLimit() {
+    PatternCache cache = new PatternCache(1000, 50);
+    cache.compile("(?:ab){20}", 0);  // too heavy to cache
+    assertEquals(0, cache.size());
+    for (int i = 0; i < 20; i++) {
+      cache.compile("y" + i, 0);
+    }
+    assertTrue(cache.weight() <= 50);
+    assertTrue(cache.evictionCount() > 0);
+    cache.clear();
+    assertEquals(0, cache.size());
+    assertEquals(0, cache.weight());
+  }
+
+  @Test
+  public void testUnevenLimits() {
+    // Neither limit divides evenly among the segments.
+    PatternCache cache = new PatternCache(100, 1001);
+    for (int i = 0; i < 1000; i++) {
+      cache.compile("z" + i, 0);
+      assertTrue(cache.size() <= 100);
+      assertTrue(cache.weight() <= 1001);
+    }
+    cache = new PatternCache(1000, 37);
+    for (int i = 0; i < 1000; i++) {
+      cache.compile("w" + i, 0);
+      assertTrue(cache.weight() <= 37);
+    }
+  }
+
+  @Test
+  public void testInstalledCache() {
+    PatternCache cache = new PatternCache(10, 1000);
+    Pattern.setCompileCache(cache);
+    try {
+      assertSame(Pattern.compile("c+d"), Pattern.compile("c+d"));
+      assertSame(Pattern.compile("c+d", 0), Pattern.compile("c+d"));
+      assertEquals(3, cache.hitCount());
+      assertEquals(1, cache.missCount());
+    } finally {
+      Pattern.setCompileCache(null);
+    }
+    assertNotSame(Pattern.compile("c+d"), Pattern.compile("c+d"));
+  }
+
+  @Test(expected = PatternSyntaxException.class)
+  public void testSyntaxError() {
+    new PatternCache(10, 1000).compile("a(", 0);
+  }
+
+  @Test
+  public void testConcurrentUse() throws Exception {
+    final PatternCache cache = new PatternCache(8, 100000);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Callable<Boolean>> tasks = new ArrayList<Callable<Boolean>>();
+      for (int t = 0; t < 8; t++) {
+        final int seed = t;
+        tasks.add(new Callable<Boolean>() {
+          @Override
+          public Boolean call() {
+            for (int i = 0; i < 500; i++) {
+              int k = (i * 7 + seed) % 12;
+              Pattern p = cache.compile("k" + k + "+", 0);
+              if (!p.matcher("k" + k).matches()) {
+                return false;
+              }
+            }
+            return true;
+          }
+        });
+      }
+      for (Future<Boolean> f : executor.invokeAll(tasks)) {
+        assertTrue(f.get());
+      }
+    } finally {
+      executor.shutdown();
+    }
+    assertEquals(4000, cache.hitCount() + cache.missCount());
+    assertTrue(cache.size() <= 8);
+  }
+}
@@ -0,0 +1,66 @@
+// Copyright 2026 Google Inc. All Rights Reserved.
+
+package com.google.re2j;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class PatternExplanationTest {
+
+  @Test
+  public void testMachine() {
+    PatternExplanation e = Pattern.compile("foo(\\d+)").explain();
+    assertEquals(PatternExplanation.Engine.MACHINE, e.engine());
+    assertEquals(e.pattern().re2().prog.numInst(), e.instructionCount());
+    assertTrue(e.boundsInstructionCount() < e.instructionCount());
+    assertEquals(1, e.groupCount());
+    assertEquals("foo", e.literalPrefix());
+    assertEquals(false, e.isPrefixComplete());
+    assertEquals("", e.startConditions());
+    assertEquals(false, e.isAnchoredStart());
+    assertEquals(false, e.hasCountedRepetition());
+    assertEquals(false, e.canMatchNewline());
+    assertEquals(0, e.automatonNodes());
+    assertTrue(e.estimatedMachineBytes() > e.estimatedBoundsMachineBytes());
+    assertEquals("pattern: foo(\\d+)\n" +
+                 "engine: MACHINE\n" +
+                 "instructions: " + e.instructionCount() + " (" +
+                 e.boundsInstructionCount() + " without captures)\n" +
+                 "groups: 1\n" +
+                 "literal prefix: \"foo\"\n" +
+                 "start conditions: none\n" +
+                 "anchored: false\n" +
+                 "counted repetition: false\n" +
+                 "can match newline: false\n" +
+                 "bytes per machine: " + e.estimatedMachineBytes() + " (" +
+                 e.estimatedBoundsMachineBytes() + " without captures)\n",
+                 e.toString());
+  }
+
+  @Test
+  public void testAnchoring() {
+    PatternExplanation e = Pattern.compile("^\\bx+$").explain();
+    assertEquals("begin_text word_boundary", e.startConditions());
+    assertEquals(true, e.isAnchoredStart());
+    assertEquals(true,
+                 Pattern.compile("x", Pattern.MULTILINE | Pattern.DOTALL)
+                     .explain().isPrefixComplete());
+    e = Pattern.compile("(?m)^.*", Pattern.DOTALL).explain();
+    assertEquals("begin_line", e.startConditions());
+    assertEquals(false, e.isAnchoredStart());
+    assertEquals(true, e.canMatchNewline());
+  }
+
+  @Test
+  public void testEngines() {
+    PatternExplanation e = Pattern.compile("cat|dog").explain();
+    assertEquals(PatternExplanation.Engine.KEYWORDS, e.engine());
+    assertEquals(7, e.automatonNodes());
+    assertTrue(e.toString(), e.toString().contains("KEYWORDS (7 states)"));
+    e = Pattern.compile("a[a-z]{100,200}").explain();
+    assertEquals(true, e.hasCountedRepetition());
+    assertTrue(e.instructionCount() < 10);
+  }
+}
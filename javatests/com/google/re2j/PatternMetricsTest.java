@@ -0,0 +1,97 @@
+// Copyright 2026 Google Inc. All Rights Reserved.
+
+package com.google.re2j;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class PatternMetricsTest {
+
+  @Test
+  public void testDisabledByDefault() {
+    Pattern p = Pattern.compile("a+b");
+    assertNull(p.metrics());
+    assertTrue(p.matcher("aab").matches());
+    PatternMetrics metrics = p.enableMetrics();
+    assertSame(metrics, p.enableMetrics());
+    assertSame(metrics, p.metrics());
+    assertSame(p, metrics.pattern());
+    assertEquals(0, metrics.executions());
+    p.disableMetrics();
+    assertNull(p.metrics());
+    assertTrue(p.matcher("aab").matches());
+    assertEquals(0, metrics.executions());
+  }
+
+  @Test
+  public void testCounts() {
+    Pattern p = Pattern.compile("x(a|b)*y");
+    PatternMetrics metrics = p.enableMetrics();
+    Matcher m = p.matcher("..xaby..xy..");
+    assertTrue(m.find());
+    assertTrue(m.find());
+    assertEquals(false, m.find());
+    assertEquals(3, metrics.executions());
+    assertEquals(2, metrics.matches());
+    assertTrue(metrics.inputUnits() > 0);
+    assertTrue(metrics.inputUnits() <= 12);
+    assertTrue(metrics.steps() > 0);
+    assertTrue(metrics.threads() > 0);
+    // Every search starts by looking for the prefix "x".
+    assertTrue(metrics.prefixSkips() >= 3);
+    assertTrue(metrics.totalNanos() >= metrics.maxNanos());
+    assertTrue(metrics.toString().contains("executions=3"));
+    metrics.reset();
+    assertEquals(0, metrics.executions());
+    assertEquals(0, metrics.steps());
+  }
+
+  @Test
+  public void testBatchAndLiterals() {
+    Pattern p = Pattern.compile("cat|dog");
+    PatternMetrics metrics = p.enableMetrics();
+    boolean[] matches = new boolean[3];
+    p.matchAll(new CharSequence[] {"cat", "cow", "dog"}, matches);
+    assertEquals(3, metrics.executions());
+    assertEquals(2, metrics.matches());
+    int[] bounds = new int[4];
+    assertEquals(1, p.find(Arrays.asList("a cat", "none"), bounds));
+    assertEquals(Arrays.toString(new int[] {2, 5, -1, -1}),
+                 Arrays.toString(bounds));
+    assertEquals(5, metrics.executions());
+    assertEquals(3, metrics.matches());
+    assertEquals(3 + 3 + 3 + 5 + 4, metrics.inputUnits());
+  }
+
+  @Test
+  public void testSlowMatchListener() {
+    final List<String> slow = new ArrayList<String>();
+    Pattern p = Pattern.compile("(a|aa)*b");
+    p.enableMetrics();
+    PatternMetrics.setSlowMatchListener(new SlowMatchListener() {
+      @Override
+      public void slowMatch(Pattern pattern, int inputLength, long nanos) {
+        slow.add(pattern + " " + inputLength);
+      }
+    }, 0, TimeUnit.NANOSECONDS);
+    try {
+      assertEquals(false, p.matcher("aaaa").matches());
+      Pattern.compile("(a|aa)*b").matcher("aaaa").matches();  // no metrics
+      assertEquals(Arrays.asList("(a|aa)*b 4"), slow);
+      PatternMetrics.setSlowMatchListener(null, 0, TimeUnit.NANOSECONDS);
+      p.matcher("aaaa").matches();
+      assertEquals(1, slow.size());
+    } finally {
+      PatternMetrics.setSlowMatchListener(null, 0, TimeUnit.NANOSECONDS);
+    }
+  }
+}
@@ -0,0 +1,63 @@
+// Copyright 2026 Google Inc. All Rights Reserved.
+
+package com.google.re2j;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class PatternProfilerTest {
+
+  @Test
+  public void testProgramMatchesPattern() {
+    String[] exprs = {
+      "abc", "(foo|bar)\\d+|x.*y", "(?i)k+", "a[b-d]{30,40}?e", "(a)|b",
+    };
+    for (String expr : exprs) {
+      Pattern p = Pattern.compile(expr);
+      assertEquals(expr, p.re2().prog.toString(), p.profiler().program());
+    }
+  }
+
+  @Test
+  public void testCounts() {
+    PatternProfiler profiler =
+        Pattern.compile("(foo|bar)\\d+|x.*y").profiler();
+    assertEquals(3, profiler.find("foo12 bar3 xaaaay xxxx"));
+    assertEquals(4, profiler.searches());
+    long total = 0;
+    for (int pc = 0; pc < profiler.numInst(); pc++) {
+      total += profiler.visits(pc);
+    }
+    assertEquals(total, profiler.totalVisits());
+    assertEquals(0, profiler.visits(0));
+    assertNull(profiler.source(0));
+    assertTrue(profiler.maxQueueSize() > 1);
+    String report = profiler.toString();
+    assertTrue(report, report.startsWith(
+        "profile of (foo|bar)\\d+|x.*y: 4 searches, " + total + " visits"));
+    assertTrue(report, report.contains(
+        "by source, including subexpressions:\n"));
+    assertTrue(report, report.contains("%    x(?-s:.)*y\n"));
+    assertTrue(report, report.contains("%      (?-s:.)*\n"));
+
+    profiler.reset();
+    assertEquals(0, profiler.totalVisits());
+    assertEquals(0, profiler.maxQueueSize());
+    assertEquals(true, profiler.matches("xy"));
+    assertEquals(false, profiler.matches("xyz"));
+    assertEquals(2, profiler.searches());
+  }
+
+  @Test
+  public void testSources() {
+    PatternProfiler profiler = Pattern.compile("ab|cd").profiler();
+    StringBuilder sources = new StringBuilder();
+    for (int pc = 0; pc < profiler.numInst(); pc++) {
+      sources.append(profiler.source(pc)).append(';');
+    }
+    assertEquals("null;ab;ab;cd;cd;ab|cd;null;", sources.toString());
+  }
+}
@@ -5,12 +5,17 @@ package com.google.re2j;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -188,4 +193,198 @@ public class PatternTest {
     assertSerializes(Pattern.compile("^ab.*c$", Pattern.DOTALL | Pattern.MULTILINE));
     assertFalse(reserialize(Pattern.compile("abc")).matcher("def").find());
   }
+
+  @Test
+  public void testSerializeKeepsProgram() {
+    Pattern p = Pattern.compile("(?i)héllo (\\w+)|\uD800x$", Pattern.MULTILINE);
+    Pattern q = reserialize(p);
+    assertNotSame(p.re2(), q.re2());
+    assertEquals(p.re2().prog.toString(), q.re2().prog.toString());
+    assertEquals(p.re2().expr, q.re2().expr);
+    assertEquals(p.re2().prefix, q.re2().prefix);
+    assertEquals(p.re2().cond, q.re2().cond);
+    assertEquals(p.groupCount(), q.groupCount());
+    Matcher m = q.matcher("say HÉLLO world");
+    assertTrue(m.find());
+    assertEquals("world", m.group(1));
+  }
+
+  @Test
+  public void testBundle() throws IOException {
+    List<Pattern> patterns = Arrays.asList(
+        Pattern.compile("ab+c"),
+        Pattern.compile("^a.c$", Pattern.DOTALL | Pattern.MULTILINE),
+        Pattern.compile("prefix(\\d+)"),
+        Pattern.compile("\\pL+", Pattern.CASE_INSENSITIVE),
+        Pattern.compile("x*"),
+        Pattern.compile("a^b"),
+        Pattern.compile("b[a-c]{17,20}?"),
+        Pattern.compile("foo|bar|fo"),
+        Pattern.compile("(héllo|wörld|ab)", Pattern.CASE_INSENSITIVE));
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    Pattern.writeBundle(bytes, patterns);
+    bytes.write(42);  // trailing data is left unread
+    ByteArrayInputStream in = new ByteArrayInputStream(bytes.toByteArray());
+    List<Pattern> read = Pattern.readBundle(in);
+    assertEquals(42, in.read());
+    assertEquals(patterns.size(), read.size());
+    assertTrue(read.get(7).re2().literals != null);
+    assertTrue(read.get(8).re2().literals != null);
+    String[] inputs = {"", "abbc", "a\nc\nd", "prefix123", "ΑΒγ", "xx", "ab",
+                       "babababababababababababac", "a fo, foo or bar",
+                       "HÉLLO WÖRLD, Ab"};
+    for (int i = 0; i < patterns.size(); i++) {
+      Pattern p = patterns.get(i);
+      Pattern q = read.get(i);
+      assertEquals(p.pattern(), q.pattern());
+      assertEquals(p.flags(), q.flags());
+      assertEquals(p.re2().prog.toString(), q.re2().prog.toString());
+      // Alternations of literals keep their automaton.
+      assertEquals(p.re2().literals == null, q.re2().literals == null);
+      if (p.re2().literals != null) {
+        assertEquals(p.re2().literals.numNodes(),
+                     q.re2().literals.numNodes());
+      }
+      for (String input : inputs) {
+        Matcher m = p.matcher(input);
+        Matcher n = q.matcher(input);
+        while (m.find()) {
+          assertTrue(n.find());
+          assertEquals(m.group(), n.group());
+        }
+        assertFalse(n.find());
+      }
+    }
+  }
+
+  @Test
+  public void testBundleCorrupt() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    Pattern.writeBundle(bytes, Arrays.asList(Pattern.compile("a(b|c)*d"),
+                                             Pattern.compile("foo|bar")));
+    byte[] good = bytes.toByteArray();
+    assertBadBundle(new byte[] {1, 2, 3, 4, 0});
+    assertBadBundle(Arrays.copyOf(good, good.length - 1));
+    // Point every byte after the header at a bad value in turn; each must
+    // either be rejected or still read as some valid program.
+    for (int i = 4; i < good.length; i++) {
+      byte[] bad = good.clone();
+      bad[i] = (byte) 0x7F;
+      try {
+        Pattern.readBundle(new ByteArrayInputStream(bad));
+      } catch (IOException e) {
+        // expected
+      }
+    }
+
+    // A NOP that loops to itself, which would hang anything skipping it.
+    ByteArrayOutputStream loop = new ByteArrayOutputStream();
+    DataOutputStream out = bundleOfProgram(loop, 3, 1);
+    writeInst(out, Inst.Op.FAIL, 0);
+    writeInst(out, Inst.Op.NOP, 1);
+    writeInst(out, Inst.Op.MATCH, 0);
+    assertBadBundle(loop.toByteArray());
+
+    // The same through a CAPTURE and an EMPTY_WIDTH.
+    loop = new ByteArrayOutputStream();
+    out = bundleOfProgram(loop, 4, 1);
+    writeInst(out, Inst.Op.FAIL, 0);
+    writeInst(out, Inst.Op.CAPTURE, 2);
+    writeInst(out, Inst.Op.EMPTY_WIDTH, 1);
+    writeInst(out, Inst.Op.MATCH, 0);
+    assertBadBundle(loop.toByteArray());
+
+    // A rune count far beyond the bytes that follow.
+    ByteArrayOutputStream huge = new ByteArrayOutputStream();
+    out = bundleOfProgram(huge, 2, 1);
+    writeInst(out, Inst.Op.FAIL, 0);
+    out.writeByte(Inst.Op.RUNE.ordinal());
+    CompiledForm.writeVarint(out, 0);
+    CompiledForm.writeVarint(out, 0);
+    CompiledForm.writeVarint(out, Integer.MAX_VALUE);
+    CompiledForm.writeVarint(out, 'x');
+    out.flush();
+    assertBadBundle(huge.toByteArray());
+  }
+
+  // bundleOfProgram() writes to |bytes| the start of a bundle of one
+  // pattern whose program has |n| instructions, starting at |start|, and
+  // returns the stream on which to write the instructions.
+  private static DataOutputStream bundleOfProgram(ByteArrayOutputStream bytes,
+                                                  int n, int start)
+      throws IOException {
+    DataOutputStream out = new DataOutputStream(bytes);
+    out.writeInt(0x52453242);  // "RE2B"
+    CompiledForm.writeVarint(out, 1);  // patterns
+    CompiledForm.writeString(out, "x");  // pattern
+    CompiledForm.writeVarint(out, 0);  // flags
+    CompiledForm.writeVarint(out, CompiledForm.VERSION);
+    CompiledForm.writeString(out, "x");  // expr
+    CompiledForm.writeVarint(out, 0);  // numSubexp
+    out.writeBoolean(false);  // longest
+    CompiledForm.writeVarint(out, 0);  // cond
+    CompiledForm.writeString(out, "");  // prefix
+    out.writeBoolean(false);  // prefixComplete
+    CompiledForm.writeVarint(out, n);
+    CompiledForm.writeVarint(out, start);
+    CompiledForm.writeVarint(out, 2);  // numCap
+    return out;
+  }
+
+  // writeInst() writes an instruction with no runes to |out|.
+  private static void writeInst(DataOutputStream out, Inst.Op op, int next)
+      throws IOException {
+    out.writeByte(op.ordinal());
+    CompiledForm.writeVarint(out, next);
+    CompiledForm.writeVarint(out, 0);  // arg
+    CompiledForm.writeVarint(out, 0);  // no runes
+    out.flush();
+  }
+
+  private static void assertBadBundle(byte[] b) {
+    try {
+      Pattern.readBundle(new ByteArrayInputStream(b));
+      fail();
+    } catch (IOException e) {
+      // expected
+    }
+  }
+
+  @Test
+  public void testMatchAll() {
+    Pattern p = Pattern.compile("a(b+)c|x");
+    CharSequence[] inputs = {
+      "abc", "abbbc", "xabc", "x", "", new StringBuilder("abbc"), "ac",
+    };
+    boolean[] matches = new boolean[inputs.length];
+    p.matchAll(inputs, matches);
+    for (int i = 0; i < inputs.length; i++) {
+      assertEquals(p.matcher(inputs[i]).matches(), matches[i]);
+    }
+  }
+
+  @Test
+  public void testFindBatch() {
+    Pattern p = Pattern.compile("(b+)c|\\d+$");
+    List<CharSequence> inputs = Arrays.<CharSequence>asList(
+        "abc", "xyz", "zz123", "", new StringBuilder("abbbc"), "bc12");
+    int[] bounds = new int[2 * inputs.size()];
+    assertEquals(4, p.find(inputs, bounds));
+    for (int i = 0; i < inputs.size(); i++) {
+      Matcher m = p.matcher(inputs.get(i));
+      if (m.find()) {
+        assertEquals(m.start(), bounds[2 * i]);
+        assertEquals(m.end(), bounds[2 * i + 1]);
+      } else {
+        assertEquals(-1, bounds[2 * i]);
+        assertEquals(-1, bounds[2 * i + 1]);
+      }
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testMatchAllShortOutput() {
+    Pattern.compile("a").matchAll(new CharSequence[] {"a", "b"},
+                                  new boolean[1]);
+  }
 }
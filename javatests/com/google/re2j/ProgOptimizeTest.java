@@ -0,0 +1,76 @@
+// Copyright 2026 Google Inc. All Rights Reserved.
+
+package com.google.re2j;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class ProgOptimizeTest {
+
+  private static String optimize(String regexp, boolean captures) {
+    Prog p = Compiler.compileRegexp(
+        Simplify.simplify(Parser.parse(regexp, RE2.PERL)));
+    if (!captures) {
+      p = p.withoutCaptures();
+    }
+    return p.optimize().toString();
+  }
+
+  @Test
+  public void testThreadsNops() {
+    assertEquals(
+        "0       fail\n" +
+        "1*      match\n",
+        optimize("", true));
+    assertEquals(
+        "0       fail\n" +
+        "1*      rune1 \"a\" -> 2\n" +
+        "2       rune1 \"b\" -> 3\n" +
+        "3       match\n",
+        optimize("a(?:)b", true));
+  }
+
+  @Test
+  public void testMergesRuneAlternatives() {
+    assertEquals(
+        "0       fail\n" +
+        "1*      rune \"ab\" -> 2\n" +
+        "2       match\n",
+        optimize("(a)|(b)", false));
+    assertEquals(
+        "0       fail\n" +
+        "1*      rune \"\\n\\naz\" -> 2\n" +
+        "2       match\n",
+        optimize("([a-m])|(\\n)|([k-z])", false));
+    assertEquals(
+        "0       fail\n" +
+        "1*      rune1 \"a\" -> 2\n" +
+        "2       match\n",
+        optimize("(a)|(a)", false));
+    // Branches that continue differently are kept.
+    assertEquals(
+        "0       fail\n" +
+        "1*      alt -> 2, 5\n" +
+        "2       rune1 \"a\" -> 3\n" +
+        "3       rune1 \"b\" -> 4\n" +
+        "4       match\n" +
+        "5       rune1 \"c\" -> 4\n",
+        optimize("(ab)|(c)", false));
+  }
+
+  @Test
+  public void testKeepsCaptures() {
+    assertEquals(
+        "0       fail\n" +
+        "1       cap 2 -> 2\n" +
+        "2       rune1 \"a\" -> 3\n" +
+        "3       cap 3 -> 8\n" +
+        "4       cap 4 -> 5\n" +
+        "5       rune1 \"b\" -> 6\n" +
+        "6       cap 5 -> 8\n" +
+        "7*      alt -> 1, 4\n" +
+        "8       match\n",
+        optimize("(a)|(b)", true));
+  }
+}
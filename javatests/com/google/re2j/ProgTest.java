@@ -8,6 +8,7 @@
 package com.google.re2j;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -100,9 +101,14 @@ public class ProgTest {
     {"A[Aa]",
      "0       fail\n" +
      "1*      rune1 \"A\" -> 2\n" +
-     "2       rune \"A\"/i -> 3\n" +
+     "2       rune \"AAaa\" -> 3\n" +
      "3       match\n"
     },
+    {"(?i)k",
+     "0       fail\n" +
+     "1*      rune \"KKkk\u212a\u212a\" -> 2\n" +
+     "2       match\n"
+    },
     {"(?:(?:^).)",
      "0       fail\n" +
      "1*      empty 4 -> 2\n" +
@@ -131,4 +137,31 @@ public class ProgTest {
     String s = p.toString();
     assertEquals("compiled: " + input, expected, s);
   }
+
+  @Test
+  public void testWithoutCaptures() throws Exception {
+    Regexp re = Parser.parse(input, RE2.PERL);
+    Prog p = Compiler.compileRegexp(re).withoutCaptures();
+    for (int pc = 0; pc < p.numInst(); pc++) {
+      Inst.Op op = p.getInst(pc).op;
+      if (op == Inst.Op.CAPTURE || op == Inst.Op.NOP) {
+        fail("compiled without captures: " + input + "\n" + p);
+      }
+    }
+  }
+
+  @Test
+  public void testOptimize() throws Exception {
+    Regexp re = Parser.parse(input, RE2.PERL);
+    Prog p = Compiler.compileRegexp(re);
+    Prog q = p.optimize();
+    for (int pc = 0; pc < q.numInst(); pc++) {
+      if (q.getInst(pc).op == Inst.Op.NOP) {
+        fail("optimized: " + input + "\n" + q);
+      }
+    }
+    if (q.numInst() > p.numInst()) {
+      fail("optimized: " + input + " grew\n" + q);
+    }
+  }
 }
@@ -8,6 +8,9 @@
 package com.google.re2j;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
 
 import org.junit.Test;
 
@@ -38,4 +41,89 @@ public class RE2Test {
     assertEquals(false, r.match("yyyabcxxxdefzzz",
                                 3, 11, RE2.UNANCHORED, null, 0));
   }
+
+  @Test
+  public void testCaptureFreeProgram() {
+    RE2 r = new RE2("(a+)(?:(b)|c)\\b()");
+    assertEquals("(a+)(?:(b)|c)\\b()", r.toString());
+    int[] group = new int[2];
+    assertEquals(true, r.match("xaac", 0, 4, RE2.UNANCHORED, group, 1));
+    assertEquals(1, group[0]);
+    assertEquals(4, group[1]);
+    group = new int[8];
+    assertEquals(true, r.match("xaac", 0, 4, RE2.UNANCHORED, group, 4));
+    assertEquals(3, group[3]);
+    assertEquals(-1, group[4]);
+    assertEquals(4, group[6]);
+  }
+
+  @Test
+  public void testCountedRepetition() {
+    // Each pattern's operand is counted; the same pattern with the operand
+    // in a capture is expanded, and must match the same text.
+    String[][] tests = {
+      {"[ab]{17,20}", "([ab]){17,20}"},
+      {"a{17,20}?b", "(a){17,20}?b"},
+      {"^[ab]{0,30}$", "^([ab]){0,30}$"},
+      {"x[ab]{17,}b", "x([ab]){17,}b"},
+      {"[ab]{18,}?b", "([ab]){18,}?b"},
+      {"(?i)b{17}", "(?i)(b){17}"},
+      {"(?:a.{17}b)+", "(?:a(.){17}b)+"},
+      {"(?:a{17}|b)*c", "(?:(a){17}|b)*c"},
+      {"a{0,20}b{17}", "(a){0,20}(b){17}"},
+    };
+    Random rand = new Random(1);
+    for (String[] test : tests) {
+      Pattern counted = Pattern.compile(test[0]);
+      Pattern expanded = Pattern.compile(test[1]);
+      assertTrue(test[0], counted.re2().prog.hasCount());
+      assertTrue(test[0], counted.re2().prog.numInst() < 16);
+      RE2 countedLongest = RE2.compileImpl(test[0], RE2.PERL, true);
+      RE2 expandedLongest = RE2.compileImpl(test[1], RE2.PERL, true);
+      for (int n = 0; n < 300; n++) {
+        StringBuilder sb = new StringBuilder();
+        int len = rand.nextInt(60);
+        for (int i = 0; i < len; i++) {
+          sb.append("aabBxc\n".charAt(rand.nextInt(7)));
+        }
+        String input = sb.toString();
+        Matcher m1 = counted.matcher(input);
+        Matcher m2 = expanded.matcher(input);
+        while (m2.find()) {
+          assertTrue(test[0] + " " + input, m1.find());
+          assertEquals(test[0] + " " + input, m2.start(), m1.start());
+          assertEquals(test[0] + " " + input, m2.end(), m1.end());
+        }
+        assertEquals(test[0] + " " + input, false, m1.find());
+        int[] g1 = new int[2];
+        int[] g2 = new int[2];
+        boolean ok = expandedLongest.match(input, 0, input.length(),
+                                         RE2.UNANCHORED, g2, 1);
+        assertEquals(test[0] + " " + input, ok,
+            countedLongest.match(input, 0, input.length(), RE2.UNANCHORED,
+                               g1, 1));
+        if (ok) {
+          assertEquals(test[0] + " " + input, g2[0], g1[0]);
+          assertEquals(test[0] + " " + input, g2[1], g1[1]);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testCountedRepetitionSize() {
+    RE2 r = RE2.compile("[0-9a-f]{1000}");
+    assertTrue(r.prog.numInst() < 10);
+    StringBuilder sb = new StringBuilder("zz");
+    for (int i = 0; i < 1000; i++) {
+      sb.append("0123456789abcdef".charAt(i % 16));
+    }
+    String input = sb.toString();
+    int[] group = new int[2];
+    assertTrue(r.match(input, 0, input.length(), RE2.UNANCHORED, group, 1));
+    assertEquals(2, group[0]);
+    assertEquals(1002, group[1]);
+    assertEquals(false, r.match(input, 0, input.length() - 1,
+                                RE2.UNANCHORED, group, 1));
+  }
 }
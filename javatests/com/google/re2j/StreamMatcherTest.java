@@ -0,0 +1,135 @@
+// Copyright 2026 Google Inc. All Rights Reserved.
+
+package com.google.re2j;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Tests for {@link StreamMatcher}.
+ */
+@RunWith(JUnit4.class)
+public class StreamMatcherTest {
+
+  private static final String TEXT =
+      "first line\nxé世y abc 123\n\n"
+      + "abéc 𐐀 word foo123bar\nbaz 4567 the end";
+
+  // A reader that returns at most |chunk| chars per read.
+  private static class SlowReader extends Reader {
+    private final String text;
+    private final int chunk;
+    private int pos;
+
+    SlowReader(String text, int chunk) {
+      this.text = text;
+      this.chunk = chunk;
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) {
+      if (pos == text.length()) {
+        return -1;
+      }
+      int n = Math.min(Math.min(len, chunk), text.length() - pos);
+      text.getChars(pos, pos + n, cbuf, off);
+      pos += n;
+      return n;
+    }
+
+    @Override
+    public void close() {}
+  }
+
+  // Checks that the StreamMatcher finds the same matches and groups as a
+  // Matcher over the whole text.
+  private static void verify(String regexp, String text, int chunk,
+                             int bufferSize) throws IOException {
+    Pattern p = Pattern.compile(regexp);
+    Matcher m = p.matcher(text);
+    StreamMatcher sm =
+        new StreamMatcher(p, new SlowReader(text, chunk), bufferSize);
+    while (m.find()) {
+      assertTrue(regexp, sm.find());
+      for (int g = 0; g <= m.groupCount(); g++) {
+        assertEquals(regexp, m.start(g), sm.start(g));
+        assertEquals(regexp, m.end(g), sm.end(g));
+        assertEquals(regexp, m.group(g), sm.group(g));
+      }
+    }
+    assertFalse(regexp, sm.find());
+    assertFalse(regexp, sm.find());
+  }
+
+  @Test
+  public void testSameMatchesAsMatcher() throws IOException {
+    String[] regexps = {
+      "a", "[a-z]+", "(\\w+) (\\d+)", "\\b\\w", "(?m)^.*$", "(?m)$",
+      "é", "世(.)", "[^a-z ]+", "x*", "\\d+$", "^f", "\\Bd",
+      "(o)(o)?", "𐐀|z", "(?U)a.*c", "a.*c", "(a|ab)(c|bcd)?",
+      "^", "$", "\\z", "[\\s\\S]", "(?s).", "(x*)(\\d*)",
+    };
+    // (Matcher can report empty matches inside a surrogate pair, which
+    // StreamMatcher does not, so compare them on BMP text.)
+    String bmpText = TEXT.replace("𐐀", "Ω");
+    for (String regexp : regexps) {
+      verify(regexp, bmpText, 1, 4);
+      verify(regexp, bmpText, 3, 8);
+      verify(regexp, bmpText, 100, 8192);
+      verify(regexp, "", 1, 4);
+      if (!Pattern.compile(regexp).matcher("").find()) {
+        verify(regexp, TEXT, 1, 4);
+        verify(regexp, TEXT, 3, 8);
+      }
+    }
+  }
+
+  @Test
+  public void testEmptyMatchesSkipSurrogatePairs() throws IOException {
+    StreamMatcher sm = Pattern.compile("x*").streamMatcher(
+        new StringReader("a𐐀b"));
+    long[] want = {0, 1, 3, 4};
+    for (long w : want) {
+      assertTrue(sm.find());
+      assertEquals(w, sm.start());
+    }
+    assertFalse(sm.find());
+  }
+
+  @Test
+  public void testBoundedBuffer() throws IOException {
+    StringBuilder b = new StringBuilder();
+    for (int i = 0; i < 20000; i++) {
+      b.append(i % 97 == 0 ? "<" + i + ">" : "filler text ");
+    }
+    Pattern p = Pattern.compile("<(\\d+)>");
+    StreamMatcher sm =
+        new StreamMatcher(p, new StringReader(b.toString()), 64);
+    int n = 0;
+    while (sm.find()) {
+      assertEquals(Integer.toString(n * 97), sm.group(1));
+      n++;
+    }
+    assertEquals(207, n);
+    assertEquals(64, sm.bufferSize());
+  }
+
+  @Test
+  public void testLongMatchGrowsBuffer() throws IOException {
+    StringBuilder b = new StringBuilder("x[");
+    for (int i = 0; i < 1000; i++) {
+      b.append("0123456789");
+    }
+    b.append("]y");
+    verify("\\[\\d*\\]", b.toString(), 7, 16);
+  }
+}
@@ -4,6 +4,10 @@
 
 package com.google.re2j;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import org.junit.Test;
@@ -27,6 +31,59 @@ public class UnicodeTest {
     }
   }
 
+  @Test
+  public void testSimpleFoldTable() {
+    for (int r = -1; r <= Unicode.MAX_RUNE + 1; r++) {
+      if (Unicode.simpleFold(r) != Unicode.simpleFoldSlow(r)) {
+        fail(String.format("simpleFold(%#x)=%#x, want %#x",
+            r, Unicode.simpleFold(r), Unicode.simpleFoldSlow(r)));
+      }
+    }
+    // Orbits: K -> k -> KELVIN SIGN -> K.
+    assertEquals('k', Unicode.simpleFold('K'));
+    assertEquals(0x212A, Unicode.simpleFold('k'));
+    assertEquals('K', Unicode.simpleFold(0x212A));
+  }
+
+  @Test
+  public void testTables() {
+    int[][] greek = UnicodeTables.script("Greek");
+    assertSame(greek, UnicodeTables.script("Greek"));
+    assertSame(UnicodeTables.table(UnicodeTables.Greek), greek);
+    assertSame(UnicodeTables.table(UnicodeTables.Lu), UnicodeTables.category("Lu"));
+    assertSame(UnicodeTables.table(UnicodeTables.Lu),
+               UnicodeTables.table(UnicodeTables.Upper));
+    assertNull(UnicodeTables.category("Greek"));
+    assertNull(UnicodeTables.script("Lu"));
+    assertNull(UnicodeTables.foldScript("Greek"));
+    assertEquals(3, UnicodeTables.foldCategory("Lt")[0].length);
+    assertEquals(5, UnicodeTables.table(UnicodeTables.CASE_RANGES)[0].length);
+    assertTrue(isIn(UnicodeTables.category("Nd"), '7'));
+    assertTrue(isIn(UnicodeTables.category("Nd"), 0x0663));  // ARABIC-INDIC THREE
+    assertTrue(!isIn(UnicodeTables.category("Nd"), 'x'));
+    assertTrue(isIn(UnicodeTables.script("Greek"), 0x03A9));  // OMEGA
+    // Every range table is sorted, with ranges that don't overlap.
+    for (int[][] t : new int[][][] {
+          UnicodeTables.category("L"), UnicodeTables.script("Han"),
+          UnicodeTables.property("White_Space"),
+          UnicodeTables.foldCategory("L")}) {
+      int last = -1;
+      for (int[] range : t) {
+        assertTrue(range[0] > last && range[1] >= range[0] && range[2] > 0);
+        last = range[1];
+      }
+    }
+  }
+
+  private static boolean isIn(int[][] table, int r) {
+    for (int[] range : table) {
+      if (range[0] <= r && r <= range[1] && (r - range[0]) % range[2] == 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   // TODO(adonovan): tests for:
   //
   // boolean isUpper(int r);
@@ -0,0 +1,106 @@
+// Copyright 2026 Google Inc. All Rights Reserved.
+
+package com.google.re2j;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.junit.Test;
+
+// Run against the multi-release jar, whose Java 11 layer holds the
+// ExecutionEvents that reports to Flight Recorder.
+public class ExecutionEventsTest {
+
+  @Test
+  public void testLargeInput() throws Exception {
+    char[] text = new char[2 << 20];
+    Arrays.fill(text, 'x');
+    String input = new String(text) + "aab";
+    Recording recording = new Recording();
+    recording.enable("com.google.re2j.LargeInputExecution");
+    recording.start();
+    assertTrue(Pattern.compile("a+b").matcher(input).find());
+    // Small inputs are reported only if slow.
+    assertTrue(Pattern.compile("a+b").matcher("xaab").find());
+    List<RecordedEvent> events = stop(recording);
+
+    assertEquals(1, events.size());
+    RecordedEvent e = events.get(0);
+    assertEquals("com.google.re2j.LargeInputExecution",
+                 e.getEventType().getName());
+    assertEquals("a+b", e.getString("pattern"));
+    assertEquals("none", e.getString("anchor"));
+    assertEquals(input.length(), e.getInt("inputLength"));
+    assertTrue(e.getBoolean("matched"));
+    assertEquals("machine", e.getString("engine"));
+    assertTrue(e.getStackTrace() != null);
+  }
+
+  @Test
+  public void testThreshold() throws Exception {
+    Recording recording = new Recording();
+    recording.enable("com.google.re2j.Execution")
+        .withThreshold(Duration.ZERO);
+    recording.start();
+    Pattern p = Pattern.compile("foo|bar");
+    assertTrue(p.matcher("xbar").find());
+    assertTrue(p.re2().match("xfoo"));  // needs no bounds
+    assertTrue(Pattern.compile("a(b)c").matcher("abc").matches());
+    boolean[] matches = new boolean[2];
+    Pattern.compile("a+").matchAll(new String[] {"aa", "b"}, matches);
+    List<RecordedEvent> events = stop(recording);
+
+    assertEquals(5, events.size());
+    RecordedEvent e = events.get(0);
+    assertEquals("com.google.re2j.Execution", e.getEventType().getName());
+    assertEquals("foo|bar", e.getString("pattern"));
+    assertEquals("none", e.getString("anchor"));
+    assertEquals(4, e.getInt("inputLength"));
+    assertEquals("keywords", e.getString("engine"));
+    e = events.get(1);
+    assertEquals("foo|bar", e.getString("pattern"));
+    assertTrue(e.getBoolean("matched"));
+    assertEquals("keywords", e.getString("engine"));
+    e = events.get(2);
+    assertEquals("a(b)c", e.getString("pattern"));
+    assertEquals("both", e.getString("anchor"));
+    assertEquals("machine", e.getString("engine"));
+    // Each input of a batch is an execution of its own.
+    assertTrue(events.get(3).getBoolean("matched"));
+    assertEquals(1, events.get(4).getInt("inputLength"));
+    assertFalse(events.get(4).getBoolean("matched"));
+  }
+
+  // stop() stops |recording| and returns its RE2/J events, in order.
+  private static List<RecordedEvent> stop(Recording recording)
+      throws Exception {
+    recording.stop();
+    Path file = Files.createTempFile("re2j", ".jfr");
+    try {
+      recording.dump(file);
+      List<RecordedEvent> events = new ArrayList<RecordedEvent>();
+      for (RecordedEvent e : RecordingFile.readAllEvents(file)) {
+        if (e.getEventType().getName().startsWith("com.google.re2j.")) {
+          events.add(e);
+        }
+      }
+      events.sort((a, b) -> a.getStartTime().compareTo(b.getStartTime()));
+      return events;
+    } finally {
+      recording.close();
+      Files.delete(file);
+    }
+  }
+}